@@ -0,0 +1,65 @@
+package grafos.bench;
+
+import grafos.io.GraphReader;
+import grafos.model.Graph;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+
+// Grafos usados nos benchmarks, identificados pelo valor do @Param "graph":
+//   small, NY, BAY          -> arquivos em data/ (diretório alterável com -Dgrafos.data=...)
+//   grid-<lado>             -> grade lado x lado com pesos aleatórios (malha viária sintética)
+//   random-<n>              -> grafo aleatório conexo com n vértices e grau médio ~6
+public final class BenchGraphs {
+    private static final long SEED = 42;
+
+    private BenchGraphs() { }
+
+    public static String dataFile(String name) {
+        String dir = System.getProperty("grafos.data", "data");
+        switch (name) {
+            case "small": return new File(dir, "test-small.gr").getPath();
+            case "NY": return new File(dir, "USA-road-d.NY.gr.gz").getPath();
+            case "BAY": return new File(dir, "USA-road-d.BAY.gr.gz").getPath();
+            default: return null;
+        }
+    }
+
+    public static Graph load(String name) throws IOException {
+        String file = dataFile(name);
+        if (file != null) {
+            GraphReader.VERBOSE = false;
+            return GraphReader.readGraph(file);
+        }
+        if (name.startsWith("grid-")) return grid(Integer.parseInt(name.substring(5)), SEED);
+        if (name.startsWith("random-")) return random(Integer.parseInt(name.substring(7)), 3, SEED);
+        throw new IllegalArgumentException("Grafo de benchmark desconhecido: " + name);
+    }
+
+    // Grade side x side, arestas horizontais e verticais com pesos em [1, 1000]
+    public static Graph grid(int side, long seed) {
+        Random rnd = new Random(seed);
+        Graph g = new Graph(side * side);
+        for (int r = 0; r < side; r++) {
+            for (int c = 0; c < side; c++) {
+                int v = r * side + c + 1;
+                if (c + 1 < side) g.addUndirectedEdge(v, v + 1, 1 + rnd.nextInt(1000));
+                if (r + 1 < side) g.addUndirectedEdge(v, v + side, 1 + rnd.nextInt(1000));
+            }
+        }
+        return g;
+    }
+
+    // Árvore aleatória (garante conexidade) mais (extra - 1) * n arestas uniformes; pesos em [1, 10000]
+    public static Graph random(int n, int extra, long seed) {
+        Random rnd = new Random(seed);
+        Graph g = new Graph(n);
+        for (int v = 2; v <= n; v++) g.addUndirectedEdge(v, 1 + rnd.nextInt(v - 1), 1 + rnd.nextInt(10000));
+        long more = (long) (extra - 1) * n;
+        for (long k = 0; k < more; k++) {
+            g.addUndirectedEdge(1 + rnd.nextInt(n), 1 + rnd.nextInt(n), 1 + rnd.nextInt(10000));
+        }
+        return g;
+    }
+}
@@ -0,0 +1,57 @@
+package grafos.bench;
+
+import grafos.algorithms.BoruvkaMST;
+import grafos.algorithms.KruskalMST;
+import grafos.algorithms.PrimMST;
+import grafos.model.Graph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// KruskalMST / PrimMST / BoruvkaMST; "algorithm" é <algoritmo>-<motor> com os
+// mesmos nomes das opções --kruskal-engine e --prim-engine
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class MstBenchmark {
+
+    @Param({"small", "NY", "BAY", "grid-1000", "random-1000000"})
+    public String graph;
+
+    @Param({"kruskal-sort", "kruskal-packed", "kruskal-filter", "prim-pq", "prim-dial", "prim-eager", "boruvka"})
+    public String algorithm;
+
+    private Graph g;
+    private KruskalMST.Engine kruskal;
+    private PrimMST.Engine prim;
+
+    @Setup
+    public void setup() throws IOException {
+        g = BenchGraphs.load(graph);
+        g.undirCsr();
+        String engine = algorithm.substring(algorithm.indexOf('-') + 1);
+        if (algorithm.startsWith("kruskal-")) kruskal = KruskalMST.Engine.fromCliName(engine);
+        else if (algorithm.startsWith("prim-")) prim = PrimMST.Engine.fromCliName(engine);
+    }
+
+    @Benchmark
+    public long mstCost() {
+        if (kruskal != null) return KruskalMST.mstCost(g, kruskal);
+        if (prim != null) return PrimMST.mstCost(g, 1, prim);
+        return BoruvkaMST.mstCost(g);
+    }
+}
@@ -0,0 +1,52 @@
+package grafos.bench;
+
+import grafos.io.GraphReader;
+import grafos.model.Graph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// GraphReader.readGraph sobre os arquivos de data/; "text" ignora snapshots e
+// "snapshot" lê o .snap gravado ao lado do arquivo no setup
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class ReaderBenchmark {
+
+    @Param({"small", "NY", "BAY"})
+    public String graph;
+
+    @Param({"text", "snapshot"})
+    public String source;
+
+    private String file;
+
+    @Setup
+    public void setup() throws IOException {
+        file = BenchGraphs.dataFile(graph);
+        GraphReader.VERBOSE = false;
+        GraphReader.WRITE_SNAPSHOTS = "snapshot".equals(source);
+        GraphReader.USE_SNAPSHOTS = "snapshot".equals(source);
+        GraphReader.readGraph(file); // grava o snapshot, se for o caso
+        GraphReader.WRITE_SNAPSHOTS = false;
+    }
+
+    @Benchmark
+    public Graph readGraph() throws IOException {
+        return GraphReader.readGraph(file);
+    }
+}
@@ -0,0 +1,52 @@
+package grafos.bench;
+
+import grafos.algorithms.Dijkstra;
+import grafos.model.Graph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// Dijkstra.dijkstra de fonte única com cada motor; o CSR é montado no setup
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class SsspBenchmark {
+
+    @Param({"small", "NY", "BAY", "grid-1000", "random-1000000"})
+    public String graph;
+
+    @Param({"pq", "dary", "delta", "radix", "dial"})
+    public String engine;
+
+    @Param({"1"})
+    public int source;
+
+    private Graph g;
+    private Dijkstra.Engine selected;
+
+    @Setup
+    public void setup() throws IOException {
+        g = BenchGraphs.load(graph);
+        g.dirCsr();
+        selected = Dijkstra.Engine.fromCliName(engine);
+    }
+
+    @Benchmark
+    public long[] dijkstra() {
+        return Dijkstra.dijkstra(g, source, selected);
+    }
+}
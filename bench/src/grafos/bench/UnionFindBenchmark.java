@@ -0,0 +1,71 @@
+package grafos.bench;
+
+import grafos.algorithms.ConcurrentUnionFind;
+import grafos.algorithms.DisjointSets;
+import grafos.algorithms.UnionFind;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// Sequência fixa de uniões e consultas aleatórias sobre n elementos; cada chamada
+// parte de uma estrutura nova (o custo de construção entra na medida)
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class UnionFindBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int n;
+
+    private int[] a;
+    private int[] b;
+
+    @Setup
+    public void setup() {
+        Random rnd = new Random(42);
+        int ops = 2 * n;
+        a = new int[ops];
+        b = new int[ops];
+        for (int i = 0; i < ops; i++) {
+            a[i] = 1 + rnd.nextInt(n);
+            b[i] = 1 + rnd.nextInt(n);
+        }
+    }
+
+    @Benchmark
+    public int sequential() {
+        return merge(new UnionFind(n));
+    }
+
+    @Benchmark
+    public int concurrentSequentialPath() {
+        return merge(new ConcurrentUnionFind(n).sequential());
+    }
+
+    @Benchmark
+    public long concurrentParallel() {
+        ConcurrentUnionFind uf = new ConcurrentUnionFind(n);
+        return IntStream.range(0, a.length).parallel().filter(i -> uf.union(a[i], b[i])).count();
+    }
+
+    private int merge(DisjointSets uf) {
+        int merged = 0;
+        for (int i = 0; i < a.length; i++) if (uf.union(a[i], b[i])) merged++;
+        return merged;
+    }
+}
@@ -0,0 +1,122 @@
+package app;
+
+import grafos.algorithms.DaryHeapDijkstra;
+import grafos.algorithms.ShortestPathCache;
+import grafos.model.CsrGraph;
+import grafos.model.Graph;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Modo lote: árvores de caminhos mínimos a partir de muitas fontes sobre um único
+// Graph compartilhado (somente leitura). Cada thread reutiliza seu próprio
+// DaryHeapDijkstra (distâncias + heap) e os resultados são enviados ao CSV
+// à medida que ficam prontos. Com um ShortestPathCache, só as fontes que aparecem
+// mais de uma vez na lista passam pelo cache (a árvore é guardada na primeira e
+// reaproveitada nas seguintes); as demais usam só a área de trabalho da thread,
+// sem alocar nem tirar do cache árvores que nunca seriam lidas de novo.
+public class BatchRunner {
+
+    public static List<Integer> readSources(String path) throws IOException {
+        List<Integer> sources = new ArrayList<>();
+        try (BufferedReader br = new BufferedReader(new FileReader(path))) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) continue;
+                try {
+                    sources.add(Integer.parseInt(line));
+                } catch (NumberFormatException ex) {
+                    System.out.println("Aviso: fonte inválida ignorada: " + line);
+                }
+            }
+        }
+        return sources;
+    }
+
+    public static final String CSV_HEADER = "file;source;dijkstra_cost;reachable;max_dist;time_s";
+
+    // Executa uma busca por fonte em 'threads' threads, consultando 'cache' (pode ser null)
+    // para as fontes repetidas; devolve o tempo total em segundos
+    public static double run(Graph g, String file, List<Integer> sources, int threads, PrintWriter csv,
+                             ShortestPathCache cache) throws InterruptedException {
+        CsrGraph csr = g.dirCsr();
+        boolean[] repeated = cache != null ? repeatedSources(sources, g.n) : null;
+        NumberFormat nfInt = NumberFormat.getIntegerInstance(Locale.of("pt", "BR"));
+        AtomicInteger next = new AtomicInteger();
+        Object lock = new Object();
+
+        long t0 = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int w = 0; w < threads; w++) {
+            workers.add(pool.submit(() -> {
+                DaryHeapDijkstra workspace = new DaryHeapDijkstra(csr);
+                int i;
+                while ((i = next.getAndIncrement()) < sources.size()) {
+                    int s = sources.get(i);
+                    if (s < 1 || s > g.n) {
+                        synchronized (lock) {
+                            System.out.println("Aviso: fonte fora do intervalo ignorada: " + s);
+                        }
+                        continue;
+                    }
+                    long t1 = System.nanoTime();
+                    long[] dist = repeated != null && repeated[s] ? cache.get(workspace, s).dist : workspace.run(s);
+                    long total = 0;
+                    long max = 0;
+                    int reach = 0;
+                    for (int v = 1; v < dist.length; v++) {
+                        long d = dist[v];
+                        if (d == Long.MAX_VALUE) continue;
+                        total += d;
+                        reach++;
+                        if (d > max) max = d;
+                    }
+                    double time = (System.nanoTime() - t1) / 1e9;
+
+                    synchronized (lock) {
+                        System.out.printf("  fonte %8d: custo %s, alcance %s, máx %s, %.4f s%n",
+                                s, nfInt.format(total), nfInt.format(reach), nfInt.format(max), time);
+                        if (csv != null) {
+                            csv.printf("%s;%d;%d;%d;%d;%s%n", file, s, total, reach, max,
+                                    String.format(Locale.forLanguageTag("pt-BR"), "%.4f", time));
+                            csv.flush();
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+        pool.shutdown();
+        try {
+            for (Future<?> f : workers) f.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falha no modo lote: " + e.getCause().getMessage(), e.getCause());
+        }
+        return (System.nanoTime() - t0) / 1e9;
+    }
+
+    // repeated[s]: a fonte s (em [1, n]) aparece mais de uma vez na lista
+    private static boolean[] repeatedSources(List<Integer> sources, int n) {
+        boolean[] seen = new boolean[n + 1];
+        boolean[] repeated = new boolean[n + 1];
+        for (int s : sources) {
+            if (s < 1 || s > n) continue;
+            if (seen[s]) repeated[s] = true;
+            seen[s] = true;
+        }
+        return repeated;
+    }
+}
@@ -0,0 +1,194 @@
+package app;
+
+import grafos.algorithms.BoruvkaMST;
+import grafos.algorithms.Dijkstra;
+import grafos.algorithms.KruskalMST;
+import grafos.algorithms.PrimMST;
+import grafos.io.GraphReader;
+import grafos.model.Graph;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Modo --bench: para cada arquivo, aquece e repete cada fase (leitura, Dijkstra,
+// Kruskal, Prim, Borůvka) e registra min/mediana/p95/máx do tempo, além de coletas
+// de GC, tempo de GC e bytes alocados por repetição (médias, via MXBeans). O
+// resultado vai para um JSON com um objeto por linha em "results", e pode ser
+// comparado com um JSON anterior (baseline) pela mediana de cada fase; só se comparam
+// fases medidas com o mesmo motor.
+public class BenchmarkRunner {
+
+    public int warmup = 2;
+    public int reps = 5;
+    public double threshold = 0.10; // regressão: mediana acima de baseline * (1 + threshold)
+    public int source = 1;
+    public Dijkstra.Engine engine = Dijkstra.Engine.PRIORITY_QUEUE;
+    public KruskalMST.Engine kruskalEngine = KruskalMST.Engine.OBJECT_SORT;
+    public PrimMST.Engine primEngine = PrimMST.Engine.EAGER;
+
+    private final List<PhaseResult> results = new ArrayList<>();
+
+    public static final class PhaseResult {
+        final String file;   // nome do arquivo, sem diretório (estável entre máquinas)
+        final String phase;
+        final String engine;
+        final double minMs, medianMs, p95Ms, maxMs;
+        final double gcCount, gcTimeMs, allocBytes;
+
+        PhaseResult(String file, String phase, String engine, double[] ms, double gcCount, double gcTimeMs, double allocBytes) {
+            this.file = file;
+            this.phase = phase;
+            this.engine = engine;
+            double[] sorted = ms.clone();
+            Arrays.sort(sorted);
+            this.minMs = sorted[0];
+            this.medianMs = percentile(sorted, 50);
+            this.p95Ms = percentile(sorted, 95);
+            this.maxMs = sorted[sorted.length - 1];
+            this.gcCount = gcCount;
+            this.gcTimeMs = gcTimeMs;
+            this.allocBytes = allocBytes;
+        }
+
+        String key() {
+            return file + "|" + phase + "|" + engine;
+        }
+    }
+
+    public void runFile(String path) throws Exception {
+        String name = new File(path).getName();
+        System.out.println("⏱️  Benchmark: " + name + " (aquecimento " + warmup + ", repetições " + reps + ")");
+        GraphReader.VERBOSE = false;
+        Graph g = GraphReader.readGraph(path);
+        g.dirCsr();
+        g.undirCsr();
+
+        measure(name, "read", "-", () -> GraphReader.readGraph(path));
+        measure(name, "dijkstra", engine.cliName, () -> Dijkstra.dijkstra(g, source, engine));
+        measure(name, "kruskal", kruskalEngine.cliName, () -> KruskalMST.mstCost(g, kruskalEngine));
+        measure(name, "prim", primEngine.cliName, () -> PrimMST.mstCost(g, source, primEngine));
+        measure(name, "boruvka", "-", () -> BoruvkaMST.mstCost(g));
+    }
+
+    private void measure(String file, String phase, String engineName, Callable<?> task) throws Exception {
+        for (int i = 0; i < warmup; i++) task.call();
+        double[] ms = new double[reps];
+        long gcCount = 0, gcTime = 0, alloc = 0;
+        for (int i = 0; i < reps; i++) {
+            long c0 = gcCount(), t0 = gcTimeMs(), a0 = allocatedBytes();
+            long s = System.nanoTime();
+            Object r = task.call();
+            ms[i] = (System.nanoTime() - s) / 1e6;
+            gcCount += gcCount() - c0;
+            gcTime += gcTimeMs() - t0;
+            alloc += allocatedBytes() - a0;
+            if (r == null) throw new IllegalStateException("fase sem resultado: " + phase);
+        }
+        PhaseResult pr = new PhaseResult(file, phase, engineName, ms,
+                (double) gcCount / reps, (double) gcTime / reps, (double) alloc / reps);
+        results.add(pr);
+        System.out.printf(Locale.ROOT, "   %-9s %-7s min %10.3f  mediana %10.3f  p95 %10.3f  máx %10.3f ms | GC %.1f (%.1f ms) | %.1f MB alocados%n",
+                phase, engineName, pr.minMs, pr.medianMs, pr.p95Ms, pr.maxMs, pr.gcCount, pr.gcTimeMs, pr.allocBytes / 1e6);
+    }
+
+    public void writeJson(String path) throws IOException {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(Path.of(path), StandardCharsets.UTF_8))) {
+            out.println("{");
+            out.printf(Locale.ROOT, "  \"timestamp\": \"%s\",%n", Instant.now());
+            out.printf(Locale.ROOT, "  \"java\": \"%s\",%n", System.getProperty("java.version"));
+            out.printf(Locale.ROOT, "  \"cores\": %d,%n", Runtime.getRuntime().availableProcessors());
+            out.printf(Locale.ROOT, "  \"warmup\": %d,%n", warmup);
+            out.printf(Locale.ROOT, "  \"reps\": %d,%n", reps);
+            out.println("  \"results\": [");
+            for (int i = 0; i < results.size(); i++) {
+                PhaseResult r = results.get(i);
+                out.printf(Locale.ROOT, "    {\"file\": \"%s\", \"phase\": \"%s\", \"engine\": \"%s\", \"min_ms\": %.3f, \"median_ms\": %.3f, "
+                                + "\"p95_ms\": %.3f, \"max_ms\": %.3f, \"gc_count\": %.2f, \"gc_time_ms\": %.2f, \"alloc_bytes\": %.0f}%s%n",
+                        escape(r.file), r.phase, r.engine, r.minMs, r.medianMs, r.p95Ms, r.maxMs,
+                        r.gcCount, r.gcTimeMs, r.allocBytes, i + 1 < results.size() ? "," : "");
+            }
+            out.println("  ]");
+            out.println("}");
+        }
+    }
+
+    // Compara as medianas com as do baseline; devolve o número de regressões
+    public int compareWithBaseline(String baselinePath) throws IOException {
+        Map<String, Double> baseline = readMedians(baselinePath);
+        int regressions = 0;
+        System.out.printf(Locale.ROOT, "📏 Comparação com %s (limite +%.0f%%):%n", baselinePath, threshold * 100);
+        for (PhaseResult r : results) {
+            Double base = baseline.get(r.key());
+            if (base == null) {
+                System.out.printf("   %-30s sem referência no baseline%n", r.key());
+                continue;
+            }
+            double change = base > 0 ? (r.medianMs - base) / base : 0.0;
+            boolean regression = r.medianMs > base * (1 + threshold);
+            if (regression) regressions++;
+            System.out.printf(Locale.ROOT, "   %-30s %10.3f -> %10.3f ms (%+.1f%%)%s%n",
+                    r.key(), base, r.medianMs, change * 100, regression ? "  ⚠️ REGRESSÃO" : "");
+        }
+        return regressions;
+    }
+
+    private static final Pattern RESULT = Pattern.compile(
+            "\"file\":\\s*\"([^\"]*)\",\\s*\"phase\":\\s*\"([^\"]*)\",\\s*\"engine\":\\s*\"([^\"]*)\".*?\"median_ms\":\\s*([0-9.eE+-]+)");
+
+    // Lê o formato gravado por writeJson (um resultado por linha)
+    static Map<String, Double> readMedians(String path) throws IOException {
+        Map<String, Double> medians = new HashMap<>();
+        for (String line : Files.readAllLines(Path.of(path), StandardCharsets.UTF_8)) {
+            Matcher m = RESULT.matcher(line);
+            if (m.find()) medians.put(m.group(1) + "|" + m.group(2) + "|" + m.group(3), Double.parseDouble(m.group(4)));
+        }
+        return medians;
+    }
+
+    // Percentil por posição mais próxima sobre valores ordenados
+    static double percentile(double[] sorted, int p) {
+        int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+
+    private static long gcCount() {
+        long sum = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) sum += Math.max(0, gc.getCollectionCount());
+        return sum;
+    }
+
+    private static long gcTimeMs() {
+        long sum = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) sum += Math.max(0, gc.getCollectionTime());
+        return sum;
+    }
+
+    // Bytes alocados por todas as threads (fases paralelas alocam fora da thread principal)
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean ext && ext.isThreadAllocatedMemorySupported()) {
+            return Math.max(0, ext.getTotalThreadAllocatedBytes());
+        }
+        return 0;
+    }
+
+    private static String escape(String s) {
+        return s.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
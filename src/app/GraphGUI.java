@@ -30,6 +30,8 @@ public class GraphGUI extends JFrame {
     private JButton btnRun;
     private JButton btnExportCSV;
     private JSpinner sourceSpinner;
+    private JComboBox<Dijkstra.Engine> dijkstraEngineBox;
+    private JComboBox<PrimMST.Engine> primEngineBox;
     private final List<File> selectedFiles = new ArrayList<>();
     private JLabel lblCm;
     private JLabel lblK;
@@ -79,6 +81,12 @@ public class GraphGUI extends JFrame {
         
         JLabel lblSource = new JLabel("Vértice fonte:");
         sourceSpinner = new JSpinner(new SpinnerNumberModel(1, 1, 1000000, 1));
+
+        JLabel lblEngine = new JLabel("Dijkstra:");
+        dijkstraEngineBox = new JComboBox<>(Dijkstra.Engine.values());
+        JLabel lblPrimEngine = new JLabel("Prim:");
+        primEngineBox = new JComboBox<>(PrimMST.Engine.values());
+        primEngineBox.setSelectedItem(PrimMST.Engine.EAGER);
         
         btnRun = new JButton("▶️ Executar Análise");
         btnRun.setEnabled(false);
@@ -91,6 +99,10 @@ public class GraphGUI extends JFrame {
         topPanel.add(btnAddFiles);
         topPanel.add(lblSource);
         topPanel.add(sourceSpinner);
+        topPanel.add(lblEngine);
+        topPanel.add(dijkstraEngineBox);
+        topPanel.add(lblPrimEngine);
+        topPanel.add(primEngineBox);
         topPanel.add(btnRun);
         topPanel.add(btnExportCSV);
 
@@ -256,6 +268,8 @@ public class GraphGUI extends JFrame {
         btnExportCSV.setEnabled(false);
         
         int sourceVertex = (Integer) sourceSpinner.getValue();
+        Dijkstra.Engine engine = (Dijkstra.Engine) dijkstraEngineBox.getSelectedItem();
+        PrimMST.Engine primEngine = (PrimMST.Engine) primEngineBox.getSelectedItem();
         
         SwingWorker<Void, Void> worker = new SwingWorker<Void, Void>() {
             @Override
@@ -281,11 +295,12 @@ public class GraphGUI extends JFrame {
                         int n = g.n;
                         int m = g.arcCount;
                         
-                        log("  ⚡ Dijkstra...");
+                        log("  ⚡ Dijkstra (" + engine.cliName + ")...");
+                        // sempre calculado (sem cache): a tabela compara os motores
                         long t1 = System.nanoTime();
-                        long[] dist = Dijkstra.dijkstra(g, sourceVertex);
-                        long custoD = Dijkstra.totalDistance(dist);
+                        long[] dist = Dijkstra.dijkstra(g, sourceVertex, engine);
                         long t2 = System.nanoTime();
+                        long custoD = Dijkstra.totalDistance(dist);
                         double tempoD = (t2 - t1) / 1e9;
                         log("     ✓ " + dfTime.format(tempoD) + " s");
                         final double uiTempoD = tempoD;
@@ -303,9 +318,9 @@ public class GraphGUI extends JFrame {
                         final double uiTempoK = tempoK;
                         SwingUtilities.invokeLater(() -> lblK.setText("Kruskal: " + dfTime.format(uiTempoK) + " s"));
                         
-                        log("  🌲 Prim...");
+                        log("  🌲 Prim (" + primEngine.cliName + ")...");
                         t1 = System.nanoTime();
-                        long custoP = PrimMST.mstCost(g, sourceVertex);
+                        long custoP = PrimMST.mstCost(g, sourceVertex, primEngine);
                         t2 = System.nanoTime();
                         double tempoP = (t2 - t1) / 1e9;
                         log("     ✓ " + dfTime.format(tempoP) + " s");
@@ -1,6 +1,6 @@
 package app;
 
-import grafos.model.Edge;
+import grafos.model.CsrGraph;
 import grafos.model.Graph;
 
 import javax.swing.*;
@@ -168,8 +168,9 @@ public class GraphPanel extends JPanel {
             Point pU = nodePositions.get(u);
             if (pU == null) continue;
             
-            for (Edge edge : graph.adjDir.get(u)) {
-                Point pV = nodePositions.get(edge.v);
+            CsrGraph csr = graph.dirCsr();
+            for (int i = csr.offsets[u], end = csr.offsets[u + 1]; i < end; i++) {
+                Point pV = nodePositions.get(csr.targets[i]);
                 if (pV == null) continue;
                 
                 g2d.draw(new Line2D.Double(pU.x, pU.y, pV.x, pV.y));
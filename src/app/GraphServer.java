@@ -0,0 +1,301 @@
+package app;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import grafos.algorithms.DaryHeapDijkstra;
+import grafos.algorithms.PathResult;
+import grafos.algorithms.PrimMST;
+import grafos.algorithms.SearchWorkspace;
+import grafos.algorithms.ShortestPathCache;
+import grafos.algorithms.ShortestPathTree;
+import grafos.algorithms.SpanningForest;
+import grafos.io.GraphReader;
+import grafos.model.CsrGraph;
+import grafos.model.Graph;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+// Modo --server: mantém os grafos carregados e responde consultas HTTP em localhost.
+// Cada requisição roda em uma virtual thread; os grafos (CSR) são somente leitura e
+// compartilhados, e as buscas usam SearchWorkspace emprestadas de um pool por grafo
+// (no máximo 'workspaces' buscas simultâneas por grafo, incluindo as que calculam
+// árvores para o cache; requisições além disso esperam uma livre).
+// Com um ShortestPathCache, /reach sem raio (um-para-todos) guarda a árvore da fonte
+// e /path responde direto de uma árvore já guardada quando houver.
+//
+//   GET /graphs                              grafos carregados
+//   GET /path?graph=G&from=s&to=t            caminho mínimo s -> t
+//   GET /reach?graph=G&from=s[&radius=r]     vértices alcançáveis (a até r, se dado)
+//   GET /mst?graph=G                         custo da AGM (floresta), calculado uma vez
+//   GET /stats                               estatísticas do cache (acertos/faltas de /reach)
+//
+// 'graph' pode ser omitido quando há um único grafo. Respostas em JSON.
+public class GraphServer {
+
+    public int port = 8080;
+    public int workspaces = Runtime.getRuntime().availableProcessors();
+    public ShortestPathCache cache; // null = sem cache
+
+    private final Map<String, Resident> graphs = new LinkedHashMap<>(); // preenchido antes de start()
+    private HttpServer http;
+    private ExecutorService executor;
+
+    // Grafo residente: visões CSR prontas, pool de áreas de trabalho e AGM memorizada
+    private final class Resident {
+        final String name;
+        final CsrGraph dir;
+        final CsrGraph undir;
+        final ConcurrentLinkedQueue<SearchWorkspace> pool = new ConcurrentLinkedQueue<>();
+        final ConcurrentLinkedQueue<DaryHeapDijkstra> treePool = new ConcurrentLinkedQueue<>();
+        final Semaphore permits = new Semaphore(Math.max(1, workspaces));
+        private SpanningForest forest;
+
+        Resident(String name, Graph g) {
+            this.name = name;
+            this.dir = g.dirCsr();
+            this.undir = g.undirCsr();
+        }
+
+        SearchWorkspace borrow() throws InterruptedException {
+            permits.acquire();
+            SearchWorkspace ws = pool.poll();
+            return ws != null ? ws : new SearchWorkspace(dir);
+        }
+
+        void release(SearchWorkspace ws) {
+            pool.offer(ws);
+            permits.release();
+        }
+
+        // Busca completa para o cache de árvores, sob as mesmas permissões das áreas de trabalho
+        DaryHeapDijkstra borrowTree() throws InterruptedException {
+            permits.acquire();
+            DaryHeapDijkstra d = treePool.poll();
+            return d != null ? d : new DaryHeapDijkstra(dir);
+        }
+
+        void releaseTree(DaryHeapDijkstra d) {
+            treePool.offer(d);
+            permits.release();
+        }
+
+        synchronized SpanningForest forest() {
+            if (forest == null) forest = PrimMST.forest(undir, 1);
+            return forest;
+        }
+    }
+
+    // Erro de requisição: vira uma resposta JSON com o status dado
+    private static final class RequestException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        final int status;
+
+        RequestException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        String handle(Map<String, String> query) throws Exception;
+    }
+
+    public void load(String path) throws IOException {
+        Graph g = GraphReader.readGraph(path);
+        add(new File(path).getName(), g);
+    }
+
+    public void add(String name, Graph g) {
+        if (http != null) throw new IllegalStateException("servidor já iniciado");
+        graphs.put(name, new Resident(name, g));
+    }
+
+    // Inicia o servidor em localhost; devolve a porta efetiva (port = 0 escolhe uma livre)
+    public int start() throws IOException {
+        http = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        http.setExecutor(executor);
+        http.createContext("/graphs", ex -> respond(ex, q -> listGraphs()));
+        http.createContext("/path", ex -> respond(ex, this::path));
+        http.createContext("/reach", ex -> respond(ex, this::reach));
+        http.createContext("/mst", ex -> respond(ex, this::mst));
+        http.createContext("/stats", ex -> respond(ex, q -> stats()));
+        http.start();
+        return http.getAddress().getPort();
+    }
+
+    public void stop() {
+        if (http == null) return;
+        http.stop(0);
+        executor.shutdown();
+    }
+
+    private String listGraphs() {
+        StringBuilder sb = new StringBuilder("{\"graphs\": [");
+        boolean first = true;
+        for (Resident r : graphs.values()) {
+            if (!first) sb.append(", ");
+            first = false;
+            sb.append("{\"name\": \"").append(escape(r.name)).append("\", \"vertices\": ").append(r.dir.n)
+                    .append(", \"arcs\": ").append(r.dir.arcCount()).append('}');
+        }
+        return sb.append("]}").toString();
+    }
+
+    private String path(Map<String, String> q) throws Exception {
+        Resident r = graph(q);
+        int from = vertex(q, "from", r), to = vertex(q, "to", r);
+        ShortestPathTree tree = cache != null ? cache.peek(r.dir, from) : null;
+        if (tree != null) return pathJson(from, to, tree.pathTo(to));
+        SearchWorkspace ws = r.borrow();
+        try {
+            ws.search(from, new SearchWorkspace.Limits().targets(to));
+            return pathJson(from, to, ws.pathTo(to));
+        } finally {
+            r.release(ws);
+        }
+    }
+
+    private static String pathJson(int from, int to, PathResult p) {
+        StringBuilder sb = new StringBuilder("{\"from\": ").append(from).append(", \"to\": ").append(to)
+                .append(", \"reachable\": ").append(p.isReachable());
+        if (p.isReachable()) {
+            sb.append(", \"distance\": ").append(p.distance).append(", \"path\": [");
+            for (int i = 0; i < p.path.length; i++) sb.append(i > 0 ? ", " : "").append(p.path[i]);
+            sb.append(']');
+        }
+        return sb.append('}').toString();
+    }
+
+    private String reach(Map<String, String> q) throws Exception {
+        Resident r = graph(q);
+        int from = vertex(q, "from", r);
+        if (cache != null && !q.containsKey("radius")) {
+            long[] dist;
+            DaryHeapDijkstra d = r.borrowTree();
+            try {
+                dist = cache.get(d, from).dist;
+            } finally {
+                r.releaseTree(d);
+            }
+            int count = 0;
+            long max = 0;
+            for (int v = 1; v < dist.length; v++) {
+                if (dist[v] == Long.MAX_VALUE) continue;
+                count++;
+                if (dist[v] > max) max = dist[v];
+            }
+            return reachJson(from, count, max);
+        }
+        SearchWorkspace.Limits limits = new SearchWorkspace.Limits();
+        if (q.containsKey("radius")) limits.radius(number(q, "radius"));
+        SearchWorkspace ws = r.borrow();
+        try {
+            int count = ws.search(from, limits);
+            long max = count > 0 ? ws.distance(ws.settledVertex(count - 1)) : 0;
+            return reachJson(from, count, max);
+        } finally {
+            r.release(ws);
+        }
+    }
+
+    private static String reachJson(int from, int count, long max) {
+        return "{\"from\": " + from + ", \"reachable\": " + count + ", \"max_distance\": " + max + "}";
+    }
+
+    private String mst(Map<String, String> q) throws Exception {
+        SpanningForest f = graph(q).forest();
+        return "{\"cost\": " + f.cost + ", \"components\": " + f.componentCount() + "}";
+    }
+
+    private String stats() {
+        if (cache == null) return "{\"cache\": null}";
+        return String.format(Locale.ROOT, "{\"cache\": {\"hits\": %d, \"misses\": %d, \"hit_rate\": %.4f, \"evictions\": %d, "
+                        + "\"trees\": %d, \"bytes\": %d, \"max_bytes\": %d}}",
+                cache.hits(), cache.misses(), cache.hitRate(), cache.evictions(), cache.size(), cache.bytes(), cache.maxBytes());
+    }
+
+    private Resident graph(Map<String, String> q) throws RequestException {
+        String name = q.get("graph");
+        if (name == null) {
+            if (graphs.size() == 1) return graphs.values().iterator().next();
+            throw new RequestException(400, "parâmetro 'graph' obrigatório com mais de um grafo carregado");
+        }
+        Resident r = graphs.get(name);
+        if (r == null) throw new RequestException(404, "grafo desconhecido: " + name);
+        return r;
+    }
+
+    private static int vertex(Map<String, String> q, String key, Resident r) throws RequestException {
+        long v = number(q, key);
+        if (v < 1 || v > r.dir.n) throw new RequestException(400, "vértice fora do intervalo: " + v);
+        return (int) v;
+    }
+
+    private static long number(Map<String, String> q, String key) throws RequestException {
+        String s = q.get(key);
+        if (s == null) throw new RequestException(400, "parâmetro '" + key + "' obrigatório");
+        try {
+            return Long.parseLong(s);
+        } catch (NumberFormatException ex) {
+            throw new RequestException(400, "parâmetro '" + key + "' inválido: " + s);
+        }
+    }
+
+    private static void respond(HttpExchange ex, Handler handler) throws IOException {
+        int status = 200;
+        String body;
+        try {
+            if (!"GET".equals(ex.getRequestMethod())) throw new RequestException(405, "somente GET");
+            body = handler.handle(parseQuery(ex.getRequestURI().getRawQuery()));
+        } catch (RequestException e) {
+            status = e.status;
+            body = error(e.getMessage());
+        } catch (Exception e) {
+            status = 500;
+            body = error(e.toString());
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        ex.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = ex.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    static Map<String, String> parseQuery(String raw) {
+        Map<String, String> q = new HashMap<>();
+        if (raw == null || raw.isEmpty()) return q;
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            String k = eq < 0 ? pair : pair.substring(0, eq);
+            String v = eq < 0 ? "" : pair.substring(eq + 1);
+            q.put(URLDecoder.decode(k, StandardCharsets.UTF_8), URLDecoder.decode(v, StandardCharsets.UTF_8));
+        }
+        return q;
+    }
+
+    private static String error(String message) {
+        return "{\"error\": \"" + escape(message) + "\"}";
+    }
+
+    private static String escape(String s) {
+        return s.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
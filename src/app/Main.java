@@ -1,13 +1,35 @@
 package app;
 
+import grafos.algorithms.AltLandmarks;
+import grafos.algorithms.AltSearch;
+import grafos.algorithms.BidirectionalDijkstra;
+import grafos.algorithms.BoruvkaMST;
+import grafos.algorithms.ChQuery;
+import grafos.algorithms.ConcurrentUnionFind;
+import grafos.algorithms.ContractionHierarchy;
+import grafos.algorithms.DaryHeapDijkstra;
+import grafos.algorithms.DeltaStepping;
+import grafos.algorithms.DisjointSets;
 import grafos.algorithms.Dijkstra;
+import grafos.algorithms.DynamicMST;
+import grafos.algorithms.DynamicSssp;
 import grafos.algorithms.KruskalMST;
+import grafos.algorithms.PathResult;
 import grafos.algorithms.PrimMST;
+import grafos.algorithms.SearchWorkspace;
+import grafos.algorithms.ShortestPathCache;
+import grafos.algorithms.ShortestPathTree;
+import grafos.algorithms.SpanningForest;
+import grafos.algorithms.UnionFind;
 import grafos.io.GraphReader;
+import grafos.metrics.Counters;
+import grafos.metrics.PhaseEvent;
 import grafos.model.Graph;
 
 import javax.swing.SwingUtilities;
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
@@ -20,8 +42,11 @@ import java.util.Locale;
 
 public class Main {
 
+    private static final String CSV_HEADER = "file;V;arcs;dijkstra_cost;dijkstra_time_s;krus_cost;krus_time_s;prim_cost;prim_time_s;reachable;read_time_s;density_arcs;mst_equal;boruvka_cost;boruvka_time_s";
+
     // ====================== TESTES ======================
-    public static void runTests() {
+    // withServer: inclui o teste do servidor HTTP, que abre uma porta em localhost
+    public static void runTests(boolean withServer) {
         System.out.println("\nExecutando testes...");
         Graph g = new Graph(5);
         g.addUndirectedEdge(1, 2, 2);
@@ -51,11 +76,226 @@ public class Main {
         System.out.println("Custo da AGM (Prim): " + primCost);
         System.out.println("Teste Prim: " + (primOk ? "PASSOU" : "FALHOU"));
 
-        boolean todosTestesPassaram = dijkstraOk && kruskalOk && primOk;
+        System.out.println("\nTeste 4: Verificando representação CSR");
+        long[] distCsr = Dijkstra.dijkstra(g.dirCsr(), 1);
+        long primCsr = PrimMST.mstCost(g.undirCsr(), 1);
+        boolean csrOk = java.util.Arrays.equals(dist, distCsr) && primCsr == 8
+                && g.dirCsr().arcCount() == 14 && g.undirCsr().arcCount() == 14;
+        System.out.println("Teste CSR: " + (csrOk ? "PASSOU" : "FALHOU"));
+
+        System.out.println("\nTeste 5: Verificando Dijkstra com heap d-ário indexado");
+        long[] distDary = Dijkstra.dijkstra(g, 1, Dijkstra.Engine.DARY_HEAP);
+        DaryHeapDijkstra reusable = new DaryHeapDijkstra(g.dirCsr(), 2);
+        reusable.run(5);
+        boolean daryOk = java.util.Arrays.equals(dist, distDary)
+                && java.util.Arrays.equals(dist, reusable.run(1));
+        System.out.println("Teste heap d-ário: " + (daryOk ? "PASSOU" : "FALHOU"));
+
+        System.out.println("\nTeste 6: Verificando Dijkstra bidirecional (origem-destino)");
+        PathResult p15 = Dijkstra.shortestPath(g, 1, 5);
+        BidirectionalDijkstra bidir = new BidirectionalDijkstra(g);
+        boolean bidirOk = p15.distance == 7 && java.util.Arrays.equals(p15.path, new int[]{1, 2, 4, 5});
+        for (int t = 1; t <= 5; t++) bidirOk &= bidir.query(1, t).distance == dist[t];
+        System.out.println("Caminho 1 → 5: " + java.util.Arrays.toString(p15.path) + " (distância " + p15.distance + ")");
+        System.out.println("Teste bidirecional: " + (bidirOk ? "PASSOU" : "FALHOU"));
+
+        System.out.println("\nTeste 7: Verificando ALT (A* com landmarks)");
+        AltSearch altSearch = new AltSearch(g, AltLandmarks.build(g, 2, 42));
+        boolean altOk = altSearch.query(1, 5).distance == 7;
+        for (int t = 1; t <= 5; t++) altOk &= altSearch.query(1, t).distance == dist[t];
+        System.out.println("Teste ALT: " + (altOk ? "PASSOU" : "FALHOU"));
+
+        System.out.println("\nTeste 8: Verificando Contraction Hierarchies");
+        ChQuery chq = new ChQuery(ContractionHierarchy.build(g));
+        PathResult pch = chq.query(1, 5);
+        boolean chOk = pch.distance == 7 && pch.path[0] == 1 && pch.path[pch.path.length - 1] == 5;
+        for (int s = 1; s <= 5; s++) {
+            long[] ds = Dijkstra.dijkstra(g, s);
+            for (int t = 1; t <= 5; t++) chOk &= chq.distance(s, t) == ds[t];
+        }
+        System.out.println("Teste CH: " + (chOk ? "PASSOU" : "FALHOU"));
+
+        System.out.println("\nTeste 9: Verificando delta-stepping paralelo");
+        long[] distDelta = Dijkstra.dijkstra(g, 1, Dijkstra.Engine.DELTA_STEPPING);
+        DeltaStepping ds1 = new DeltaStepping(g.dirCsr(), 1);
+        boolean deltaOk = java.util.Arrays.equals(dist, distDelta)
+                && java.util.Arrays.equals(dist, ds1.run(1, java.util.concurrent.ForkJoinPool.commonPool()))
+                && java.util.Arrays.equals(dist, new DeltaStepping(g.dirCsr(), 100).run(1, java.util.concurrent.ForkJoinPool.commonPool()));
+        System.out.println("Teste delta-stepping: " + (deltaOk ? "PASSOU" : "FALHOU"));
+
+        System.out.println("\nTeste 10: Verificando heap radix e fila de Dial");
+        boolean bucketOk = java.util.Arrays.equals(dist, Dijkstra.dijkstra(g, 1, Dijkstra.Engine.RADIX_HEAP))
+                && java.util.Arrays.equals(dist, Dijkstra.dijkstra(g, 1, Dijkstra.Engine.DIAL))
+                && PrimMST.mstCost(g, 1, PrimMST.Engine.DIAL) == 8;
+        System.out.println("Teste filas de inteiros: " + (bucketOk ? "PASSOU" : "FALHOU"));
+
+        System.out.println("\nTeste 11: Verificando Kruskal com arestas empacotadas e filter-Kruskal");
+        Graph big = new Graph(3000);
+        java.util.Random rnd = new java.util.Random(7);
+        for (int v = 2; v <= 3000; v++) big.addUndirectedEdge(v, 1 + rnd.nextInt(v - 1), rnd.nextInt(1000));
+        for (int k = 0; k < 30000; k++) big.addUndirectedEdge(1 + rnd.nextInt(3000), 1 + rnd.nextInt(3000), rnd.nextInt(1000));
+        long bigCost = KruskalMST.mstCost(big);
+        boolean packedOk = KruskalMST.mstCost(g, KruskalMST.Engine.PACKED) == 8
+                && KruskalMST.mstCost(g, KruskalMST.Engine.FILTER) == 8
+                && KruskalMST.mstCostPacked(big) == bigCost && KruskalMST.mstCostFilter(big) == bigCost;
+        System.out.println("Teste Kruskal empacotado: " + (packedOk ? "PASSOU" : "FALHOU"));
+
+        System.out.println("\nTeste 12: Verificando Borůvka paralelo");
+        Graph forest = new Graph(7);
+        forest.addUndirectedEdge(1, 2, 3);
+        forest.addUndirectedEdge(2, 3, 3);
+        forest.addUndirectedEdge(1, 3, 3);
+        forest.addUndirectedEdge(5, 6, 4);
+        boolean boruvkaOk = BoruvkaMST.mstCost(g) == 8 && BoruvkaMST.mstCost(big) == bigCost
+                && BoruvkaMST.mstCost(forest) == 10;
+        System.out.println("Teste Borůvka: " + (boruvkaOk ? "PASSOU" : "FALHOU"));
+
+        System.out.println("\nTeste 13: Verificando Prim eager (floresta geradora mínima)");
+        SpanningForest sf = PrimMST.forest(forest.undirCsr(), 5);
+        boolean eagerOk = PrimMST.mstCost(g, 1, PrimMST.Engine.EAGER) == 8
+                && PrimMST.forest(big.undirCsr(), 17).cost == bigCost
+                && sf.cost == 10 && sf.componentCount() == 4 && sf.componentRoots[0] == 5
+                && sf.componentCosts[0] == 4 && sf.componentSizes[sf.largestComponent()] == 3;
+        System.out.println("Componentes: " + sf.componentCount() + ", custos " + java.util.Arrays.toString(sf.componentCosts));
+        System.out.println("Teste Prim eager: " + (eagerOk ? "PASSOU" : "FALHOU"));
+
+        System.out.println("\nTeste 14: Verificando union-find concorrente");
+        int chain = 200000;
+        boolean ufOk = true;
+        for (DisjointSets longChain : new DisjointSets[]{new UnionFind(chain), new ConcurrentUnionFind(chain).sequential()}) {
+            int chainMerges = 0;
+            for (int v = 1; v < chain; v++) if (longChain.union(v, v + 1)) chainMerges++;
+            ufOk &= chainMerges == chain - 1 && !longChain.union(1, chain) && longChain.find(1) == longChain.find(chain);
+        }
+        ConcurrentUnionFind shared = new ConcurrentUnionFind(chain);
+        long merges = java.util.stream.IntStream.range(1, chain).parallel()
+                .filter(v -> shared.union(v, v + 1)).count();
+        ufOk &= merges == chain - 1 && shared.sameSet(1, chain) && !shared.sameSet(0, 1);
+        System.out.println("Teste union-find concorrente: " + (ufOk ? "PASSOU" : "FALHOU"));
+
+        System.out.println("\nTeste 15: Verificando SSSP dinâmico (reparo após alterações)");
+        DynamicSssp dyn = new DynamicSssp(g.dirCsr(), 1);
+        boolean dynOk = java.util.Arrays.equals(dist, dyn.distances());
+        dyn.apply(new DynamicSssp.Batch().set(2, 4, 10).remove(4, 5)); // 1→2→4→5 deixa de ser o melhor
+        dynOk &= dyn.distance(4) == 8 && dyn.distance(5) == 10
+                && java.util.Arrays.equals(dyn.pathTo(5).path, new int[]{1, 2, 3, 5});
+        dyn.updateArc(1, 5, 1);
+        dynOk &= dyn.distance(5) == 1 && dyn.distance(4) == 3 && dyn.parent(4) == 5
+                && java.util.Arrays.equals(Dijkstra.dijkstra(dyn.toCsr(), 1), dyn.distances());
+        System.out.println("Teste SSSP dinâmico: " + (dynOk ? "PASSOU" : "FALHOU"));
+
+        System.out.println("\nTeste 16: Verificando AGM dinâmica");
+        DynamicMST dmst = new DynamicMST(g);
+        boolean dynMstOk = dmst.cost() == 8 && dmst.treeEdgeCount() == 4;
+        dmst.addEdge(1, 5, 1);                          // sai a mais pesada do ciclo: 2-4 (peso 3)
+        dynMstOk &= dmst.cost() == 6;
+        dmst.removeEdge(dmst.findEdge(2, 3));           // substituta: 1-3 (peso 4)
+        dynMstOk &= dmst.cost() == 9;
+        dmst.changeWeight(dmst.findEdge(1, 3), 50);     // sai da árvore; entra 3-4 (peso 5)
+        dynMstOk &= dmst.cost() == 10 && !dmst.isTreeEdge(dmst.findEdge(1, 3));
+        dmst.removeEdge(dmst.findEdge(3, 4));           // substituta: 3-5 (peso 7)
+        dmst.removeEdge(dmst.findEdge(3, 5));           // só resta 1-3 (peso 50)
+        dynMstOk &= dmst.componentCount() == 1 && dmst.cost() == 55;
+        System.out.println("Teste AGM dinâmica: " + (dynMstOk ? "PASSOU" : "FALHOU"));
+
+        System.out.println("\nTeste 17: Verificando buscas limitadas com área de trabalho reutilizável");
+        SearchWorkspace ws = new SearchWorkspace(g);
+        ws.search(1);
+        boolean wsOk = ws.stopReason() == SearchWorkspace.StopReason.EXHAUSTED && ws.settledCount() == 5;
+        for (int v = 1; v <= 5; v++) wsOk &= ws.distance(v) == dist[v];
+        ws.search(1, new SearchWorkspace.Limits().radius(3));
+        wsOk &= ws.settledCount() == 3 && ws.stopReason() == SearchWorkspace.StopReason.RADIUS
+                && !ws.isSettled(4) && ws.distance(4) == 5;
+        ws.search(1, new SearchWorkspace.Limits().targets(4));
+        wsOk &= ws.stopReason() == SearchWorkspace.StopReason.TARGETS && ws.pathTo(4).distance == 5
+                && !ws.isSettled(5);
+        ws.search(5, new SearchWorkspace.Limits().maxSettled(2));
+        wsOk &= ws.settledCount() == 2 && ws.stopReason() == SearchWorkspace.StopReason.BUDGET
+                && ws.settledVertex(1) == 4 && !ws.isSettled(1);
+        System.out.println("Teste área de trabalho: " + (wsOk ? "PASSOU" : "FALHOU"));
+
+        System.out.println("\nTeste 18: Verificando servidor de consultas em localhost");
+        boolean serverOk = true;
+        if (!withServer) {
+            System.out.println("Pulado (abre uma porta local; use --test-server para incluí-lo)");
+        } else {
+            GraphServer server = new GraphServer();
+            server.port = 0; // porta efêmera
+            server.add("teste", g);
+            server.cache = new ShortestPathCache(1 << 20);
+            try {
+                String base = "http://localhost:" + server.start();
+                serverOk = httpGet(base + "/path?from=1&to=5").contains("\"distance\": 7, \"path\": [1, 2, 4, 5]")
+                        && httpGet(base + "/reach?graph=teste&from=1&radius=3").contains("\"reachable\": 3")
+                        && httpGet(base + "/reach?from=1").contains("\"reachable\": 5, \"max_distance\": 7")
+                        && httpGet(base + "/reach?from=1").contains("\"reachable\": 5")
+                        && server.cache.hits() == 1 && server.cache.misses() == 1
+                        && httpGet(base + "/mst").contains("\"cost\": 8")
+                        && httpGet(base + "/path?graph=outro&from=1&to=5") == null;
+            } catch (IOException ex) {
+                System.out.println("Erro: " + ex.getMessage());
+                serverOk = false;
+            } finally {
+                server.stop();
+            }
+        }
+        if (withServer) System.out.println("Teste servidor: " + (serverOk ? "PASSOU" : "FALHOU"));
+
+        System.out.println("\nTeste 19: Verificando cache de árvores de caminhos mínimos");
+        ShortestPathCache spCache = new ShortestPathCache(500); // ~208 bytes por árvore: cabem duas
+        ShortestPathTree t1 = spCache.get(g, 1, Dijkstra.Engine.DARY_HEAP);
+        boolean cacheOk = java.util.Arrays.equals(t1.dist, dist)
+                && java.util.Arrays.equals(t1.pathTo(5).path, new int[]{1, 2, 4, 5})
+                && spCache.get(g.dirCsr(), 1) == t1 && spCache.hits() == 1 && spCache.misses() == 1;
+        spCache.get(g.dirCsr(), 2);
+        spCache.get(g.dirCsr(), 1);                  // 1 passa a ser a mais recente
+        spCache.get(g.dirCsr(), 3);                  // remove 2
+        cacheOk &= spCache.size() == 2 && spCache.evictions() == 1 && spCache.peek(g.dirCsr(), 2) == null
+                && spCache.peek(g.dirCsr(), 1) == t1 && spCache.bytes() <= spCache.maxBytes()
+                && spCache.hits() == 2 && spCache.misses() == 3; // peek não conta
+        System.out.println("Cache: " + spCache);
+        System.out.println("Teste cache: " + (cacheOk ? "PASSOU" : "FALHOU"));
+
+        System.out.println("\nTeste 20: Verificando árvore de caminhos mínimos (predecessores)");
+        ShortestPathTree tree = Dijkstra.shortestPathTree(g, 1);
+        ShortestPathTree rebuilt = ShortestPathTree.fromDistances(g.dirCsr(), 1, dist);
+        int[] arcsVisited = {0};
+        tree.forEach((v, p, d) -> { if (p >= 0 && d == dist[v]) arcsVisited[0]++; });
+        boolean treeOk = java.util.Arrays.equals(tree.dist, dist) && java.util.Arrays.equals(tree.pred, rebuilt.pred)
+                && java.util.Arrays.equals(tree.pathTo(5).path, new int[]{1, 2, 4, 5})
+                && java.util.Arrays.equals(tree.depths(), new int[]{-1, 0, 1, 2, 2, 3})
+                && java.util.Arrays.equals(tree.subtreeSizes(), new int[]{0, 5, 4, 1, 2, 1})
+                && tree.reachedCount() == 5 && tree.vertices().sum() == 15 && arcsVisited[0] == 4;
+        System.out.println("Teste árvore: " + (treeOk ? "PASSOU" : "FALHOU"));
+
+        System.out.println("\nTeste 21: Verificando contadores de trabalho (" + (Counters.ENABLED ? "ligados" : "desligados") + ")");
+        long relax0 = Counters.RELAXATIONS.sum(), unions0 = Counters.UNIONS.sum(), finds0 = Counters.FINDS.sum();
+        Dijkstra.dijkstra(g.dirCsr(), 1);
+        KruskalMST.mstCost(g);
+        long relax = Counters.RELAXATIONS.sum() - relax0, unions = Counters.UNIONS.sum() - unions0;
+        long finds = Counters.FINDS.sum() - finds0;
+        boolean countersOk = Counters.ENABLED ? relax == 14 && unions == 4 && finds >= 14 : relax == 0 && unions == 0 && finds == 0;
+        System.out.println("Teste contadores: " + (countersOk ? "PASSOU" : "FALHOU"));
+
+        boolean todosTestesPassaram = dijkstraOk && kruskalOk && primOk && csrOk && daryOk && bidirOk && altOk && chOk && deltaOk
+                && bucketOk && packedOk && boruvkaOk && eagerOk && ufOk && dynOk && dynMstOk && wsOk && serverOk && cacheOk && treeOk && countersOk;
         System.out.println("\nResultado final dos testes: " + (todosTestesPassaram ? "TODOS OS TESTES PASSARAM" : "ALGUNS TESTES FALHARAM"));
         System.out.println("============================================");
     }
 
+    // Corpo da resposta, ou null se o status não for 200
+    private static String httpGet(String url) throws IOException {
+        java.net.HttpURLConnection c = (java.net.HttpURLConnection) java.net.URI.create(url).toURL().openConnection();
+        try {
+            if (c.getResponseCode() != 200) return null;
+            try (java.io.InputStream in = c.getInputStream()) {
+                return new String(in.readAllBytes(), java.nio.charset.StandardCharsets.UTF_8);
+            }
+        } finally {
+            c.disconnect();
+        }
+    }
+
     public static void main(String[] args) {
         try {
             System.out.println("Iniciando o programa...");
@@ -64,8 +304,24 @@ public class Main {
             String csvPath = null;
             List<String> cliFiles = new ArrayList<>();
             boolean runTests = true;
+            boolean testServer = false; // teste do servidor HTTP só com --test-server
             boolean quiet = false; // controla logs de leitura
             boolean useConsole = false; // por padrão abre GUI
+            Dijkstra.Engine engine = Dijkstra.Engine.PRIORITY_QUEUE;
+            PrimMST.Engine primEngine = PrimMST.Engine.EAGER; // floresta: mesmo custo do Kruskal em grafos desconexos
+            KruskalMST.Engine kruskalEngine = KruskalMST.Engine.OBJECT_SORT;
+            int targetVertex = -1; // destino opcional para consulta origem-destino
+            long radius = -1;      // consulta local: vértices a até 'radius' da fonte (-1 = desligado)
+            String treeOut = null; // CSV com a árvore de caminhos mínimos da fonte (pai, distância, profundidade, subárvore)
+            int altLandmarks = 0;  // número de landmarks ALT para a consulta origem-destino (0 = desligado)
+            boolean useCh = false; // consulta origem-destino também por Contraction Hierarchies
+            String sourcesPath = null; // modo lote: arquivo com uma fonte por linha
+            int threads = Runtime.getRuntime().availableProcessors();
+            BenchmarkRunner bench = null; // modo --bench: repetições com estatísticas e JSON
+            String benchJson = "bench-result.json";
+            String benchBaseline = null;
+            GraphServer server = null; // modo --server: grafos residentes + consultas HTTP
+            long cacheMb = 256;        // limite do cache de árvores de caminhos mínimos (0 = desligado)
 
             for (int i = 0; i < args.length; i++) {
                 String a = args[i];
@@ -79,8 +335,82 @@ public class Main {
                 } else if ("--source".equals(a) && i + 1 < args.length) {
                     try { sourceVertex = Integer.parseInt(args[++i]); } catch (NumberFormatException ex) { }
                     useConsole = true; // source customizado implica console
+                } else if ("--target".equals(a) && i + 1 < args.length) {
+                    try { targetVertex = Integer.parseInt(args[++i]); } catch (NumberFormatException ex) { }
+                    useConsole = true;
+                } else if ("--radius".equals(a) && i + 1 < args.length) {
+                    try { radius = Long.parseLong(args[++i]); } catch (NumberFormatException ex) { }
+                    useConsole = true;
+                } else if ("--tree-out".equals(a) && i + 1 < args.length) {
+                    treeOut = args[++i];
+                    useConsole = true;
+                } else if ("--alt".equals(a) && i + 1 < args.length) {
+                    try { altLandmarks = Integer.parseInt(args[++i]); } catch (NumberFormatException ex) { }
+                    useConsole = true;
+                } else if ("--ch".equals(a)) {
+                    useCh = true;
+                    useConsole = true;
+                } else if ("--sources".equals(a) && i + 1 < args.length) {
+                    sourcesPath = args[++i];
+                    useConsole = true;
+                } else if ("--threads".equals(a) && i + 1 < args.length) {
+                    try { threads = Math.max(1, Integer.parseInt(args[++i])); } catch (NumberFormatException ex) { }
+                    useConsole = true;
+                } else if ("--engine".equals(a) && i + 1 < args.length) {
+                    try { engine = Dijkstra.Engine.fromCliName(args[++i]); } catch (IllegalArgumentException ex) { System.out.println("Aviso: " + ex.getMessage()); }
+                    useConsole = true; // motor customizado implica console
+                } else if ("--kruskal-engine".equals(a) && i + 1 < args.length) {
+                    try { kruskalEngine = KruskalMST.Engine.fromCliName(args[++i]); } catch (IllegalArgumentException ex) { System.out.println("Aviso: " + ex.getMessage()); }
+                    useConsole = true;
+                } else if ("--prim-engine".equals(a) && i + 1 < args.length) {
+                    try { primEngine = PrimMST.Engine.fromCliName(args[++i]); } catch (IllegalArgumentException ex) { System.out.println("Aviso: " + ex.getMessage()); }
+                    useConsole = true;
+                } else if ("--delta".equals(a) && i + 1 < args.length) {
+                    try { DeltaStepping.DELTA = Math.max(0L, Long.parseLong(args[++i])); } catch (NumberFormatException ex) { }
+                    useConsole = true;
+                } else if ("--bench".equals(a)) {
+                    if (bench == null) bench = new BenchmarkRunner();
+                    useConsole = true;
+                } else if ("--bench-reps".equals(a) && i + 1 < args.length) {
+                    if (bench == null) bench = new BenchmarkRunner();
+                    try { bench.reps = Math.max(1, Integer.parseInt(args[++i])); } catch (NumberFormatException ex) { }
+                    useConsole = true;
+                } else if ("--bench-warmup".equals(a) && i + 1 < args.length) {
+                    if (bench == null) bench = new BenchmarkRunner();
+                    try { bench.warmup = Math.max(0, Integer.parseInt(args[++i])); } catch (NumberFormatException ex) { }
+                    useConsole = true;
+                } else if ("--bench-threshold".equals(a) && i + 1 < args.length) {
+                    if (bench == null) bench = new BenchmarkRunner();
+                    try { bench.threshold = Math.max(0.0, Double.parseDouble(args[++i]) / 100.0); } catch (NumberFormatException ex) { }
+                    useConsole = true;
+                } else if ("--bench-json".equals(a) && i + 1 < args.length) {
+                    if (bench == null) bench = new BenchmarkRunner();
+                    benchJson = args[++i];
+                    useConsole = true;
+                } else if ("--bench-baseline".equals(a) && i + 1 < args.length) {
+                    if (bench == null) bench = new BenchmarkRunner();
+                    benchBaseline = args[++i];
+                    useConsole = true;
+                } else if ("--server".equals(a)) {
+                    if (server == null) server = new GraphServer();
+                    useConsole = true;
+                } else if ("--port".equals(a) && i + 1 < args.length) {
+                    if (server == null) server = new GraphServer();
+                    try { server.port = Integer.parseInt(args[++i]); } catch (NumberFormatException ex) { }
+                    useConsole = true;
+                } else if ("--cache-mb".equals(a) && i + 1 < args.length) {
+                    try { cacheMb = Math.max(0L, Long.parseLong(args[++i])); } catch (NumberFormatException ex) { }
+                    useConsole = true;
+                } else if ("--snapshot".equals(a)) {
+                    GraphReader.WRITE_SNAPSHOTS = true;
+                    useConsole = true;
+                } else if ("--no-snapshot".equals(a)) {
+                    GraphReader.USE_SNAPSHOTS = false;
+                    useConsole = true;
                 } else if ("--no-tests".equals(a)) {
                     runTests = false;
+                } else if ("--test-server".equals(a)) {
+                    testServer = true;
                 } else if ("--quiet".equals(a)) {
                     quiet = true;
                     useConsole = true; // quiet implica console
@@ -101,7 +431,17 @@ public class Main {
                 return;
             }
 
-            if (runTests) runTests();
+            if (runTests) runTests(testServer);
+
+            List<Integer> batchSources = null;
+            if (sourcesPath != null) {
+                try {
+                    batchSources = BatchRunner.readSources(sourcesPath);
+                } catch (IOException ioe) {
+                    System.out.println("ERRO: não foi possível ler a lista de fontes: " + ioe.getMessage());
+                    return;
+                }
+            }
 
             String[] files;
             if (cliFiles.isEmpty()) {
@@ -114,9 +454,56 @@ public class Main {
                 files = cliFiles.toArray(new String[0]);
             }
 
+            ShortestPathCache spCache = cacheMb > 0 ? new ShortestPathCache(cacheMb << 20) : null;
+
+            if (server != null) {
+                server.workspaces = threads;
+                server.cache = spCache;
+                GraphReader.VERBOSE = !quiet;
+                for (String f : files) {
+                    if (!new File(f).exists()) {
+                        System.out.println("ERRO: Arquivo não encontrado: " + f);
+                        continue;
+                    }
+                    long t0 = System.nanoTime();
+                    server.load(f);
+                    System.out.printf("📖 %s carregado em %.3f s%n", f, (System.nanoTime() - t0) / 1e9);
+                }
+                int port = server.start();
+                GraphServer running = server;
+                Runtime.getRuntime().addShutdownHook(new Thread(running::stop));
+                System.out.println("🌐 Servidor em http://localhost:" + port + "/ (/graphs, /path, /reach, /mst); Ctrl+C para encerrar");
+                return;
+            }
+
+            if (bench != null) {
+                bench.source = sourceVertex;
+                bench.engine = engine;
+                bench.kruskalEngine = kruskalEngine;
+                bench.primEngine = primEngine;
+                for (String f : files) {
+                    if (!new File(f).exists()) {
+                        System.out.println("ERRO: Arquivo não encontrado: " + f);
+                        continue;
+                    }
+                    bench.runFile(f);
+                }
+                bench.writeJson(benchJson);
+                System.out.println("💾 Resultados gravados em " + benchJson);
+                if (benchBaseline != null) {
+                    int regressions = bench.compareWithBaseline(benchBaseline);
+                    if (regressions > 0) {
+                        System.out.println("❌ " + regressions + " regressão(ões) acima do limite");
+                        System.exit(2);
+                    }
+                    System.out.println("✅ Nenhuma regressão acima do limite");
+                }
+                return;
+            }
+
             System.out.println("Legenda:");
             System.out.println("CM  = Caminho Mínimo (algoritmo de Dijkstra)");
-            System.out.println("AGM = Árvore Geradora Mínima (algoritmos de Kruskal e Prim)");
+            System.out.println("AGM = Árvore Geradora Mínima (algoritmos de Kruskal, Prim e Borůvka paralelo)");
             System.out.println();
 
             NumberFormat nfInt = NumberFormat.getIntegerInstance(Locale.of("pt", "BR"));
@@ -130,9 +517,14 @@ public class Main {
             PrintWriter csv = null;
             if (csvPath != null) {
                 try {
-                    boolean novo = !(new File(csvPath).exists());
-                    csv = new PrintWriter(new FileWriter(csvPath, true));
-                    if (novo) csv.println("file;V;arcs;dijkstra_cost;dijkstra_time_s;krus_cost;krus_time_s;prim_cost;prim_time_s;reachable;read_time_s;density_arcs;mst_equal");
+                    String header = batchSources != null ? BatchRunner.CSV_HEADER : CSV_HEADER;
+                    String path = csvWithHeader(csvPath, header);
+                    if (!path.equals(csvPath)) {
+                        System.out.println("Aviso: " + csvPath + " tem outras colunas; gravando em " + path);
+                    }
+                    boolean novo = new File(path).length() == 0;
+                    csv = new PrintWriter(new FileWriter(path, true));
+                    if (novo) csv.println(header);
                 } catch (IOException ioe) {
                     System.out.println("Aviso: não foi possível abrir CSV para escrita: " + ioe.getMessage());
                 }
@@ -141,7 +533,7 @@ public class Main {
             for (String f : files) {
                 try {
                     System.out.println(separator);
-                    System.out.println("Processando grafo: " + f + " (fonte=" + sourceVertex + ")");
+                    System.out.println("Processando grafo: " + f + " (fonte=" + sourceVertex + ", motor=" + engine.cliName + ", kruskal=" + kruskalEngine.cliName + ", prim=" + primEngine.cliName + ")");
                     grafos.io.GraphReader.VERBOSE = !quiet;
                     if (!new java.io.File(f).exists()) {
                         System.out.println("ERRO: Arquivo não encontrado: " + f);
@@ -159,34 +551,152 @@ public class Main {
                     int m = g.arcCount;
                     double density = n > 0 ? ((double)m)/n : 0.0;
 
+                    if (batchSources != null) {
+                        System.out.println("🚚 Modo lote: " + batchSources.size() + " fonte(s) em " + threads + " thread(s)");
+                        double tempoLote = BatchRunner.run(g, f, batchSources, threads, csv, spCache);
+                        System.out.printf("✓ Lote concluído em %s s (%.1f fontes/s)%n", dfTime.format(tempoLote),
+                                tempoLote > 0 ? batchSources.size() / tempoLote : 0.0);
+                        if (spCache != null) System.out.println("🗃️ Cache: " + spCache);
+                        continue;
+                    }
+
                     System.out.print("⚡ Executando Dijkstra (CM)...");
+                    long[] contadores = Counters.ENABLED ? Counters.snapshot() : null;
+                    PhaseEvent fase = PhaseEvent.start("sssp", f, engine.cliName);
                     long t1 = System.nanoTime();
-                    long[] dist = Dijkstra.dijkstra(g, sourceVertex);
+                    long[] dist = Dijkstra.dijkstra(g, sourceVertex, engine);
                     long custoD = grafos.algorithms.Dijkstra.totalDistance(dist);
                     long t2 = System.nanoTime();
+                    fase.finish();
                     double tempoD = (t2 - t1) / 1e9;
                     System.out.printf(" ✓ %.4f s%n", tempoD);
+                    if (contadores != null) System.out.println("   📈 " + Counters.describeSince(contadores));
 
                     int reach = 0;
                     for (int i = 1; i < dist.length; i++) if (dist[i] < Long.MAX_VALUE) reach++;
 
+                    if (treeOut != null && sourceVertex >= 1 && sourceVertex <= n) {
+                        t1 = System.nanoTime();
+                        ShortestPathTree tree = Dijkstra.shortestPathTree(g, sourceVertex, engine);
+                        int[] depth = tree.depths();
+                        int[] subtree = tree.subtreeSizes();
+                        boolean novo = !new File(treeOut).exists();
+                        String fileName = new File(f).getName();
+                        try (PrintWriter out = new PrintWriter(new java.io.BufferedWriter(new FileWriter(treeOut, true)))) {
+                            if (novo) out.println("file;vertex;parent;distance;depth;subtree_size");
+                            tree.forEach((v, p, d) -> out.println(fileName + ";" + v + ";" + p + ";" + d + ";" + depth[v] + ";" + subtree[v]));
+                        }
+                        t2 = System.nanoTime();
+                        int maxDepth = 0;
+                        for (int d : depth) maxDepth = Math.max(maxDepth, d);
+                        System.out.printf("🌳 Árvore de caminhos mínimos (%s vértices, profundidade máx. %s) gravada em %s, %.4f s%n",
+                                nfInt.format(tree.reachedCount()), nfInt.format(maxDepth), treeOut, (t2 - t1) / 1e9);
+                    }
+
+                    if (radius >= 0 && sourceVertex >= 1 && sourceVertex <= n) {
+                        SearchWorkspace ws = new SearchWorkspace(g);
+                        t1 = System.nanoTime();
+                        int within = ws.search(sourceVertex, new SearchWorkspace.Limits().radius(radius));
+                        t2 = System.nanoTime();
+                        System.out.printf("📍 Raio %s a partir de %d: %s vértices, %.6f s%n",
+                                nfInt.format(radius), sourceVertex, nfInt.format(within), (t2 - t1) / 1e9);
+                    }
+
+                    if (targetVertex >= 1 && targetVertex <= n) {
+                        System.out.print("🎯 Consulta " + sourceVertex + " → " + targetVertex + " (Dijkstra bidirecional)...");
+                        t1 = System.nanoTime();
+                        PathResult pr = Dijkstra.shortestPath(g, sourceVertex, targetVertex);
+                        t2 = System.nanoTime();
+                        if (pr.isReachable()) {
+                            System.out.printf(" ✓ distância %s, %d vértices no caminho, %.4f s%n",
+                                    nfInt.format(pr.distance), pr.path.length, (t2 - t1) / 1e9);
+                        } else {
+                            System.out.printf(" destino inalcançável, %.4f s%n", (t2 - t1) / 1e9);
+                        }
+
+                        if (altLandmarks > 0) {
+                            System.out.print("🧭 Preparando ALT (" + altLandmarks + " landmarks)...");
+                            t1 = System.nanoTime();
+                            AltLandmarks lm = loadOrBuildLandmarks(g, f, altLandmarks);
+                            t2 = System.nanoTime();
+                            System.out.printf(" ✓ %.4f s%n", (t2 - t1) / 1e9);
+                            AltSearch alt = new AltSearch(g, lm);
+                            t1 = System.nanoTime();
+                            PathResult pa = alt.query(sourceVertex, targetVertex);
+                            t2 = System.nanoTime();
+                            System.out.printf("🧭 Consulta ALT: distância %s, %s vértices estabelecidos, %.4f s%n",
+                                    pa.isReachable() ? nfInt.format(pa.distance) : "∞",
+                                    nfInt.format(alt.settledCount()), (t2 - t1) / 1e9);
+                        }
+
+                        if (useCh) {
+                            System.out.print("🏔️ Preparando Contraction Hierarchies...");
+                            t1 = System.nanoTime();
+                            ContractionHierarchy ch = loadOrBuildHierarchy(g, f);
+                            t2 = System.nanoTime();
+                            System.out.printf(" ✓ %s arcos (com atalhos), %.4f s%n", nfInt.format(ch.arcCount()), (t2 - t1) / 1e9);
+                            ChQuery chq = new ChQuery(ch);
+                            t1 = System.nanoTime();
+                            PathResult pc = chq.query(sourceVertex, targetVertex);
+                            t2 = System.nanoTime();
+                            System.out.printf("🏔️ Consulta CH: distância %s, %d vértices no caminho, %s vértices estabelecidos, %.6f s%n",
+                                    pc.isReachable() ? nfInt.format(pc.distance) : "∞", pc.path.length,
+                                    nfInt.format(chq.settledCount()), (t2 - t1) / 1e9);
+                        }
+                    }
+
                     System.out.print("🌲 Executando Kruskal (AGM)...");
+                    contadores = Counters.ENABLED ? Counters.snapshot() : null;
+                    fase = PhaseEvent.start("mst-kruskal", f, kruskalEngine.cliName);
                     t1 = System.nanoTime();
-                    long custoK = KruskalMST.mstCost(g);
+                    long custoK = KruskalMST.mstCost(g, kruskalEngine);
                     t2 = System.nanoTime();
+                    fase.finish();
                     double tempoK = (t2 - t1) / 1e9;
                     System.out.printf(" ✓ %.4f s%n", tempoK);
+                    if (contadores != null) System.out.println("   📈 " + Counters.describeSince(contadores));
 
                     System.out.print("🌲 Executando Prim (AGM)...");
+                    contadores = Counters.ENABLED ? Counters.snapshot() : null;
+                    fase = PhaseEvent.start("mst-prim", f, primEngine.cliName);
                     t1 = System.nanoTime();
-                    long custoP = PrimMST.mstCost(g, sourceVertex);
+                    SpanningForest floresta = null;
+                    long custoP;
+                    if (primEngine == PrimMST.Engine.EAGER) {
+                        floresta = PrimMST.forest(g.undirCsr(), sourceVertex);
+                        custoP = floresta.cost;
+                    } else {
+                        custoP = PrimMST.mstCost(g, sourceVertex, primEngine);
+                    }
                     t2 = System.nanoTime();
+                    fase.finish();
                     double tempoP = (t2 - t1) / 1e9;
                     System.out.printf(" ✓ %.4f s%n", tempoP);
+                    if (contadores != null) System.out.println("   📈 " + Counters.describeSince(contadores));
+                    if (floresta != null && floresta.componentCount() > 1) {
+                        int maior = floresta.largestComponent();
+                        System.out.printf("   Floresta com %s componentes; maior: %s vértices, custo %s%n",
+                                nfInt.format(floresta.componentCount()), nfInt.format(floresta.componentSizes[maior]),
+                                nfInt.format(floresta.componentCosts[maior]));
+                    }
+
+                    System.out.print("🌲 Executando Borůvka paralelo (AGM)...");
+                    contadores = Counters.ENABLED ? Counters.snapshot() : null;
+                    fase = PhaseEvent.start("mst-boruvka", f, null);
+                    t1 = System.nanoTime();
+                    long custoB = BoruvkaMST.mstCost(g);
+                    t2 = System.nanoTime();
+                    fase.finish();
+                    double tempoB = (t2 - t1) / 1e9;
+                    System.out.printf(" ✓ %.4f s%n", tempoB);
+                    if (contadores != null) System.out.println("   📈 " + Counters.describeSince(contadores));
 
                     if (custoK != custoP) {
                         System.out.println("⚠️  Aviso: custos de AGM diferentes entre Kruskal e Prim: " + custoK + " vs " + custoP);
                     }
+                    if (custoK != custoB) {
+                        System.out.println("⚠️  Aviso: custos de AGM diferentes entre Kruskal e Borůvka: " + custoK + " vs " + custoB);
+                    }
                     
                     System.out.println("\n📊 Resultados:");
                     System.out.printf("%10s %10s %15s %10s %15s %10s %15s %10s %10s%n",
@@ -197,14 +707,16 @@ public class Main {
                             nfInt.format(reach));
 
                     // barras ASCII proporcionais aos tempos (máx -> 30 colunas)
-                    double maxT = Math.max(tempoD, Math.max(tempoK, tempoP));
+                    double maxT = Math.max(Math.max(tempoD, tempoB), Math.max(tempoK, tempoP));
                     int width = 30;
                     String barD = asciiBar(tempoD, maxT, width);
                     String barK = asciiBar(tempoK, maxT, width);
                     String barP = asciiBar(tempoP, maxT, width);
+                    String barB = asciiBar(tempoB, maxT, width);
                     System.out.println("  CM      : " + barD + " " + dfTime.format(tempoD) + " s");
                     System.out.println("  Kruskal : " + barK + " " + dfTime.format(tempoK) + " s");
                     System.out.println("  Prim    : " + barP + " " + dfTime.format(tempoP) + " s");
+                    System.out.println("  Borůvka : " + barB + " " + dfTime.format(tempoB) + " s");
 
                     if (csv != null) {
                         try {
@@ -215,12 +727,15 @@ public class Main {
                             String tempoKFormatted = dfTime.format(tempoK).replace(".", ",");
                             String custoPS = nfInt.format(custoP);
                             String tempoPFormatted = dfTime.format(tempoP).replace(".", ",");
+                            String custoBS = nfInt.format(custoB);
+                            String tempoBFormatted = dfTime.format(tempoB).replace(".", ",");
                             String reachS = nfInt.format(reach);
                             String tempoLeituraFormatted = String.format(java.util.Locale.forLanguageTag("pt-BR"), "%.3f", tempoLeitura).replace(".", ",");
                             String densityFormatted = String.format(java.util.Locale.forLanguageTag("pt-BR"), "%.6f", density).replace(".", ",");
                             
-                            csv.printf("%s;%d;%d;%s;%s;%s;%s;%s;%s;%s;%s;%s;%s%n",
-                                    f, n, m, custoDS, tempoDFormatted, custoKS, tempoKFormatted, custoPS, tempoPFormatted, reachS, tempoLeituraFormatted, densityFormatted, (custoK==custoP?"Sim":"Não"));
+                            csv.printf("%s;%d;%d;%s;%s;%s;%s;%s;%s;%s;%s;%s;%s;%s;%s%n",
+                                    f, n, m, custoDS, tempoDFormatted, custoKS, tempoKFormatted, custoPS, tempoPFormatted, reachS, tempoLeituraFormatted, densityFormatted,
+                                    (custoK==custoP && custoK==custoB?"Sim":"Não"), custoBS, tempoBFormatted);
                             csv.flush();
                         } catch (Exception ex) {
                             System.out.println("Aviso: falha ao escrever CSV: " + ex.getMessage());
@@ -241,6 +756,65 @@ public class Main {
         }
     }
 
+    // O CSV é aberto para acréscimo: se o arquivo já existe com outro cabeçalho (ex.: de
+    // uma versão anterior, sem as colunas do Borůvka), usa x.1.csv, x.2.csv, ... em vez dele
+    private static String csvWithHeader(String path, String header) throws IOException {
+        int dot = path.lastIndexOf('.');
+        boolean hasExt = dot > path.lastIndexOf(File.separatorChar) && dot > 0;
+        String base = hasExt ? path.substring(0, dot) : path;
+        String ext = hasExt ? path.substring(dot) : "";
+        String candidate = path;
+        for (int k = 1; ; k++) {
+            File f = new File(candidate);
+            if (!f.exists() || f.length() == 0) return candidate;
+            try (BufferedReader br = new BufferedReader(new FileReader(f))) {
+                if (header.equals(br.readLine())) return candidate;
+            }
+            candidate = base + "." + k + ext;
+        }
+    }
+
+    // Reaproveita as tabelas ALT gravadas ao lado do grafo quando atuais; senão calcula e grava
+    private static AltLandmarks loadOrBuildLandmarks(Graph g, String graphFile, int k) {
+        String path = AltLandmarks.defaultPath(graphFile);
+        File cache = new File(path);
+        if (cache.isFile() && cache.lastModified() >= new File(graphFile).lastModified()) {
+            try {
+                AltLandmarks lm = AltLandmarks.load(path, g);
+                if (lm.count() == Math.min(k, g.n)) return lm;
+            } catch (IOException e) {
+                System.out.print(" (tabelas ALT ignoradas: " + e.getMessage() + ")");
+            }
+        }
+        AltLandmarks lm = AltLandmarks.build(g, k, 42);
+        try {
+            lm.save(path);
+        } catch (IOException e) {
+            System.out.print(" (não foi possível gravar " + path + ": " + e.getMessage() + ")");
+        }
+        return lm;
+    }
+
+    // Reaproveita a hierarquia gravada ao lado do grafo quando atual; senão contrai e grava
+    private static ContractionHierarchy loadOrBuildHierarchy(Graph g, String graphFile) {
+        String path = ContractionHierarchy.defaultPath(graphFile);
+        File cache = new File(path);
+        if (cache.isFile() && cache.lastModified() >= new File(graphFile).lastModified()) {
+            try {
+                return ContractionHierarchy.load(path, g);
+            } catch (IOException e) {
+                System.out.print(" (hierarquia ignorada: " + e.getMessage() + ")");
+            }
+        }
+        ContractionHierarchy ch = ContractionHierarchy.build(g);
+        try {
+            ch.save(path);
+        } catch (IOException e) {
+            System.out.print(" (não foi possível gravar " + path + ": " + e.getMessage() + ")");
+        }
+        return ch;
+    }
+
     private static String asciiBar(double value, double max, int width) {
         if (max <= 0) max = 1.0;
         int filled = (int)Math.round((value / max) * width);
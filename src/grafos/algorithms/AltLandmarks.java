@@ -0,0 +1,141 @@
+package grafos.algorithms;
+
+import grafos.model.CsrGraph;
+import grafos.model.Graph;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+// Pré-processamento do ALT (A*, landmarks e desigualdade triangular): para cada
+// landmark L guarda d(L, v) e d(v, L) para todo v. Pela desigualdade triangular,
+// d(s, t) >= max(d(L, t) - d(L, s), d(s, L) - d(t, L)), o que dá ao A* uma
+// estimativa admissível e consistente do restante do caminho.
+public final class AltLandmarks {
+    public static final String EXTENSION = ".alt";
+
+    private static final int MAGIC = 0x4D4C5247; // "GRLM"
+    private static final int VERSION = 1;
+    private static final long INF = Long.MAX_VALUE;
+
+    public final int n;
+    public final int[] landmarks;
+    final long[][] fromLandmark; // fromLandmark[i][v] = d(L_i, v)
+    final long[][] toLandmark;   // toLandmark[i][v]   = d(v, L_i)
+
+    private AltLandmarks(int n, int[] landmarks, long[][] fromLandmark, long[][] toLandmark) {
+        this.n = n;
+        this.landmarks = landmarks;
+        this.fromLandmark = fromLandmark;
+        this.toLandmark = toLandmark;
+    }
+
+    public int count() {
+        return landmarks.length;
+    }
+
+    // Seleção "farthest": cada novo landmark é o vértice mais distante dos já escolhidos
+    // (vértices ainda não alcançados por nenhum landmark têm prioridade, o que espalha
+    // landmarks por componentes diferentes). As buscas reversas rodam em paralelo.
+    public static AltLandmarks build(Graph g, int k, long seed) {
+        CsrGraph fwd = g.dirCsr();
+        CsrGraph bwd = g.reverseCsr();
+        int n = g.n;
+        k = Math.max(1, Math.min(k, n));
+
+        int[] chosen = new int[k];
+        long[][] from = new long[k][];
+        long[] minDist = new long[n + 1];
+        boolean[] isLandmark = new boolean[n + 1];
+
+        // o primeiro landmark é o vértice mais distante de um vértice inicial aleatório
+        int start = 1 + new Random(seed).nextInt(n);
+        long[] initial = DaryHeapDijkstra.dijkstra(fwd, start);
+        Arrays.fill(minDist, INF);
+        int next = farthest(initial, fwd, bwd, isLandmark, start);
+        for (int i = 0; i < k; i++) {
+            chosen[i] = next;
+            isLandmark[next] = true;
+            from[i] = DaryHeapDijkstra.dijkstra(fwd, next);
+            for (int v = 1; v <= n; v++) {
+                if (from[i][v] < minDist[v]) minDist[v] = from[i][v];
+            }
+            if (i + 1 < k) next = farthest(minDist, fwd, bwd, isLandmark, next);
+        }
+
+        long[][] to = new long[k][];
+        IntStream.range(0, k).parallel().forEach(i -> to[i] = DaryHeapDijkstra.dijkstra(bwd, chosen[i]));
+        return new AltLandmarks(n, chosen, from, to);
+    }
+
+    // Vértice com maior distância (INF conta como maior), ignorando isolados e landmarks
+    private static int farthest(long[] dist, CsrGraph fwd, CsrGraph bwd, boolean[] isLandmark, int fallback) {
+        int best = fallback;
+        long bestDist = -1;
+        for (int v = 1; v < dist.length; v++) {
+            if (isLandmark[v] || (fwd.degree(v) == 0 && bwd.degree(v) == 0)) continue;
+            if (dist[v] > bestDist) {
+                bestDist = dist[v];
+                best = v;
+            }
+        }
+        return best;
+    }
+
+    // Limite inferior de d(v, target)
+    long lowerBound(int v, int target) {
+        long best = 0;
+        for (int i = 0; i < landmarks.length; i++) {
+            long[] from = fromLandmark[i];
+            long[] to = toLandmark[i];
+            long lt = from[target], lv = from[v];
+            if (lt != INF && lv != INF && lt - lv > best) best = lt - lv;
+            long vl = to[v], tl = to[target];
+            if (vl != INF && tl != INF && vl - tl > best) best = vl - tl;
+        }
+        return best;
+    }
+
+    // Caminho padrão das tabelas ao lado do grafo (x.gr ou x.gr.gz -> x.gr.alt)
+    public static String defaultPath(String graphFile) {
+        String base = graphFile.endsWith(".gz") ? graphFile.substring(0, graphFile.length() - 3) : graphFile;
+        return base + EXTENSION;
+    }
+
+    public void save(String path) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(path), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(n);
+            out.writeInt(landmarks.length);
+            for (int l : landmarks) out.writeInt(l);
+            for (long[] row : fromLandmark) for (int v = 0; v <= n; v++) out.writeLong(row[v]);
+            for (long[] row : toLandmark) for (int v = 0; v <= n; v++) out.writeLong(row[v]);
+        }
+    }
+
+    public static AltLandmarks load(String path, Graph g) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(path), 1 << 16))) {
+            if (in.readInt() != MAGIC) throw new IOException("Arquivo não contém landmarks ALT: " + path);
+            int version = in.readInt();
+            if (version != VERSION) throw new IOException("Versão de landmarks não suportada (" + version + "): " + path);
+            int n = in.readInt();
+            if (n != g.n) throw new IOException("Landmarks calculados para outro grafo (n=" + n + "): " + path);
+            int k = in.readInt();
+            int[] landmarks = new int[k];
+            for (int i = 0; i < k; i++) landmarks[i] = in.readInt();
+            long[][] from = new long[k][n + 1];
+            long[][] to = new long[k][n + 1];
+            for (long[] row : from) for (int v = 0; v <= n; v++) row[v] = in.readLong();
+            for (long[] row : to) for (int v = 0; v <= n; v++) row[v] = in.readLong();
+            return new AltLandmarks(n, landmarks, from, to);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package grafos.algorithms;
+
+import grafos.model.CsrGraph;
+import grafos.model.Graph;
+
+import java.util.Arrays;
+
+// Consulta origem-destino por A* com as estimativas de AltLandmarks. Como a
+// estimativa é consistente, cada vértice é estabelecido uma única vez e a busca
+// termina ao retirar o destino do heap. Instâncias são reutilizáveis (uma por thread).
+public final class AltSearch {
+    private static final long INF = Long.MAX_VALUE;
+
+    private final CsrGraph g;
+    private final AltLandmarks lm;
+    private final long[] dist;
+    private final long[] potential; // estimativa até o destino, calculada ao tocar o vértice
+    private final int[] pred;
+    private final IndexedDaryHeap heap;
+    private final int[] touched;
+    private int touchedCount;
+    private int settled;
+
+    public AltSearch(Graph g, AltLandmarks landmarks) {
+        this(g.dirCsr(), landmarks);
+    }
+
+    public AltSearch(CsrGraph g, AltLandmarks landmarks) {
+        if (landmarks.n != g.n) throw new IllegalArgumentException("Landmarks de outro grafo");
+        this.g = g;
+        this.lm = landmarks;
+        this.dist = new long[g.n + 1];
+        this.potential = new long[g.n + 1];
+        this.pred = new int[g.n + 1];
+        Arrays.fill(dist, INF);
+        this.heap = new IndexedDaryHeap(g.n + 1, DaryHeapDijkstra.DEFAULT_ARITY);
+        this.touched = new int[g.n + 1];
+    }
+
+    public int settledCount() {
+        return settled;
+    }
+
+    public PathResult query(int source, int target) {
+        for (int i = 0; i < touchedCount; i++) dist[touched[i]] = INF;
+        touchedCount = 0;
+        heap.clear();
+        settled = 0;
+
+        touch(source, 0, -1, target);
+        while (!heap.isEmpty()) {
+            int u = heap.pollMin();
+            settled++;
+            if (u == target) return new PathResult(dist[u], buildPath(source, target));
+            long du = dist[u];
+            for (int i = g.offsets[u], end = g.offsets[u + 1]; i < end; i++) {
+                int v = g.targets[i];
+                long nd = du + g.weights[i];
+                if (nd < dist[v]) touch(v, nd, u, target);
+            }
+        }
+        return PathResult.unreachable();
+    }
+
+    private void touch(int v, long d, int p, int target) {
+        if (dist[v] == INF) {
+            touched[touchedCount++] = v;
+            potential[v] = lm.lowerBound(v, target);
+        }
+        dist[v] = d;
+        pred[v] = p;
+        heap.insertOrDecrease(v, d + potential[v]);
+    }
+
+    private int[] buildPath(int source, int target) {
+        int len = 1;
+        for (int v = target; v != source; v = pred[v]) len++;
+        int[] path = new int[len];
+        for (int v = target, i = len - 1; i >= 0; v = pred[v], i--) path[i] = v;
+        return path;
+    }
+}
@@ -0,0 +1,130 @@
+package grafos.algorithms;
+
+import grafos.model.CsrGraph;
+import grafos.model.Graph;
+
+import java.util.Arrays;
+
+// Consulta origem-destino por Dijkstra bidirecional: busca para frente na adjacência
+// dirigida e para trás na transposta, parando quando topo(frente) + topo(trás) >= melhor
+// caminho já encontrado. Uma instância reaproveita seus arrays entre consultas e só
+// reinicia os vértices tocados, então cada consulta custa proporcional à região explorada.
+public final class BidirectionalDijkstra {
+    private static final long INF = Long.MAX_VALUE;
+
+    private final CsrGraph fwd;
+    private final CsrGraph bwd;
+    private final long[] distF;
+    private final long[] distB;
+    private final int[] predF; // predecessor na busca para frente
+    private final int[] predB; // sucessor (rumo ao destino) na busca para trás
+    private final IndexedDaryHeap heapF;
+    private final IndexedDaryHeap heapB;
+    private final int[] touched;
+    private int touchedCount;
+    private int settled;
+
+    public BidirectionalDijkstra(Graph g) {
+        this(g.dirCsr(), g.reverseCsr());
+    }
+
+    public BidirectionalDijkstra(CsrGraph forward, CsrGraph backward) {
+        int n = forward.n;
+        this.fwd = forward;
+        this.bwd = backward;
+        this.distF = new long[n + 1];
+        this.distB = new long[n + 1];
+        this.predF = new int[n + 1];
+        this.predB = new int[n + 1];
+        Arrays.fill(distF, INF);
+        Arrays.fill(distB, INF);
+        this.heapF = new IndexedDaryHeap(n + 1, DaryHeapDijkstra.DEFAULT_ARITY);
+        this.heapB = new IndexedDaryHeap(n + 1, DaryHeapDijkstra.DEFAULT_ARITY);
+        this.touched = new int[2 * (n + 1)];
+    }
+
+    public static PathResult shortestPath(Graph g, int source, int target) {
+        return new BidirectionalDijkstra(g).query(source, target);
+    }
+
+    // Vértices estabelecidos (nas duas direções) na última consulta
+    public int settledCount() {
+        return settled;
+    }
+
+    public PathResult query(int source, int target) {
+        reset();
+        settled = 0;
+        if (source == target) return new PathResult(0, new int[]{source});
+
+        touch(source, distF, predF, heapF, 0, -1);
+        touch(target, distB, predB, heapB, 0, -1);
+        long best = INF;
+        int meet = -1;
+
+        while (!heapF.isEmpty() && !heapB.isEmpty()) {
+            if (heapF.minKey() + heapB.minKey() >= best) break;
+            boolean forward = heapF.minKey() <= heapB.minKey();
+            IndexedDaryHeap heap = forward ? heapF : heapB;
+            CsrGraph g = forward ? fwd : bwd;
+            long[] dist = forward ? distF : distB;
+            long[] other = forward ? distB : distF;
+            int[] pred = forward ? predF : predB;
+
+            int u = heap.pollMin();
+            settled++;
+            long du = dist[u];
+            for (int i = g.offsets[u], end = g.offsets[u + 1]; i < end; i++) {
+                int v = g.targets[i];
+                long nd = du + g.weights[i];
+                if (nd < dist[v]) touch(v, dist, pred, heap, nd, u);
+                if (other[v] != INF && nd + other[v] < best) {
+                    best = nd + other[v];
+                    meet = v;
+                }
+            }
+        }
+
+        if (meet < 0) return PathResult.unreachable();
+        return new PathResult(best, buildPath(source, target, meet));
+    }
+
+    private void touch(int v, long[] dist, int[] pred, IndexedDaryHeap heap, long d, int p) {
+        if (distF[v] == INF && distB[v] == INF) touched[touchedCount++] = v;
+        dist[v] = d;
+        pred[v] = p;
+        heap.insertOrDecrease(v, d);
+    }
+
+    private int[] buildPath(int source, int target, int meet) {
+        int len = 1;
+        for (int v = meet; v != source; v = predF[v]) len++;
+        for (int v = meet; v != target; v = predB[v]) len++;
+        int[] path = new int[len];
+        int i = 0;
+        for (int v = meet; ; v = predF[v]) {
+            path[i++] = v;
+            if (v == source) break;
+        }
+        // trecho origem..encontro foi gravado ao contrário
+        for (int a = 0, b = i - 1; a < b; a++, b--) {
+            int tmp = path[a]; path[a] = path[b]; path[b] = tmp;
+        }
+        for (int v = meet; v != target; ) {
+            v = predB[v];
+            path[i++] = v;
+        }
+        return path;
+    }
+
+    private void reset() {
+        for (int i = 0; i < touchedCount; i++) {
+            int v = touched[i];
+            distF[v] = INF;
+            distB[v] = INF;
+        }
+        touchedCount = 0;
+        heapF.clear();
+        heapB.clear();
+    }
+}
@@ -0,0 +1,96 @@
+package grafos.algorithms;
+
+import grafos.model.CsrGraph;
+import grafos.model.Graph;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+// AGM (floresta geradora mínima) por Borůvka: a cada rodada, cada componente escolhe
+// em paralelo sua aresta de saída mais leve, as escolhas são contraídas em paralelo
+// num ConcurrentUnionFind e as arestas internas descartadas, até não restar aresta
+// entre componentes distintas. Empates de peso são desfeitos pelo índice da aresta
+// (chave peso << 32 | índice), o que evita ciclos entre as escolhas e dá o mesmo
+// custo de KruskalMST.mstCost.
+public final class BoruvkaMST {
+    private static final VarHandle BEST = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final long NONE = Long.MAX_VALUE;
+
+    private BoruvkaMST() { }
+
+    public static long mstCost(Graph g) {
+        CsrGraph edges = g.undirEdges();
+        int n = g.n;
+        int m = edges.arcCount();
+        int[] from = edges.sources(), to = edges.targets, weight = edges.weights;
+
+        int[] alive = new int[m]; // índices das arestas que ainda ligam componentes distintas
+        for (int i = 0; i < m; i++) alive[i] = i;
+        int aliveCount = m;
+        int[] comp = new int[n + 1];
+        for (int v = 0; v <= n; v++) comp[v] = v;
+        long[] best = new long[n + 1];
+        Arrays.fill(best, NONE);
+        ConcurrentUnionFind uf = new ConcurrentUnionFind(n);
+        int chunks = ForkJoinPool.getCommonPoolParallelism() * 4 + 1;
+        int[] kept = new int[chunks];
+        long cost = 0;
+
+        while (aliveCount > 0) {
+            // 1) aresta mais leve de cada componente, descartando as internas de cada bloco
+            final int count = aliveCount;
+            IntStream.range(0, chunks).parallel().forEach(c -> {
+                int lo = (int) ((long) count * c / chunks), hi = (int) ((long) count * (c + 1) / chunks);
+                int k = lo;
+                for (int j = lo; j < hi; j++) {
+                    int i = alive[j];
+                    int cu = comp[from[i]], cv = comp[to[i]];
+                    if (cu == cv) continue;
+                    alive[k++] = i;
+                    long key = ((long) weight[i] << 32) | i;
+                    lowerBest(best, cu, key);
+                    lowerBest(best, cv, key);
+                }
+                kept[c] = k - lo;
+            });
+            int total = 0;
+            for (int c = 0; c < chunks; c++) {
+                int lo = (int) ((long) count * c / chunks);
+                System.arraycopy(alive, lo, alive, total, kept[c]);
+                total += kept[c];
+            }
+            aliveCount = total;
+            if (aliveCount == 0) break;
+
+            // 2) contração paralela das escolhas e novos rótulos de componente
+            cost += IntStream.range(0, chunks).parallel().mapToLong(c -> {
+                int lo = 1 + (int) ((long) n * c / chunks), hi = 1 + (int) ((long) n * (c + 1) / chunks);
+                long sum = 0;
+                for (int v = lo; v < hi; v++) {
+                    long key = best[v];
+                    if (key == NONE) continue;
+                    best[v] = NONE;
+                    int i = (int) key;
+                    if (uf.union(from[i], to[i])) sum += weight[i];
+                }
+                return sum;
+            }).sum();
+            IntStream.range(0, chunks).parallel().forEach(c -> {
+                int lo = 1 + (int) ((long) n * c / chunks), hi = 1 + (int) ((long) n * (c + 1) / chunks);
+                for (int v = lo; v < hi; v++) comp[v] = uf.find(v);
+            });
+        }
+        return cost;
+    }
+
+    private static void lowerBest(long[] best, int c, long key) {
+        long cur = (long) BEST.getAcquire(best, c);
+        while (key < cur) {
+            if (BEST.compareAndSet(best, c, cur, key)) return;
+            cur = (long) BEST.getAcquire(best, c);
+        }
+    }
+}
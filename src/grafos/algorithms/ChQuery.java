@@ -0,0 +1,180 @@
+package grafos.algorithms;
+
+import java.util.Arrays;
+
+// Consulta origem-destino sobre uma ContractionHierarchy: duas buscas de Dijkstra que
+// só sobem na hierarquia (origem no grafo up, destino no grafo down). Cada lado para
+// quando seu menor rótulo alcança a melhor distância encontrada; os atalhos do
+// caminho são então desempacotados até os arcos originais do grafo.
+// Instâncias reaproveitam seus arrays entre consultas (uma por thread).
+public final class ChQuery {
+    private static final long INF = Long.MAX_VALUE;
+
+    private final ContractionHierarchy ch;
+    private final long[] distF;
+    private final long[] distB;
+    private final int[] predEdgeF; // arco do grafo up usado para chegar ao vértice
+    private final int[] predEdgeB; // arco do grafo down usado para chegar ao vértice
+    private final int[] predF;
+    private final int[] predB;
+    private final IndexedDaryHeap heapF;
+    private final IndexedDaryHeap heapB;
+    private final int[] touched;
+    private int touchedCount;
+    private int settled;
+
+    // pilha reutilizada no desempacotamento: (origem, destino, intermediário)
+    private int[] stack = new int[48];
+
+    public ChQuery(ContractionHierarchy ch) {
+        int n = ch.n;
+        this.ch = ch;
+        distF = new long[n + 1];
+        distB = new long[n + 1];
+        Arrays.fill(distF, INF);
+        Arrays.fill(distB, INF);
+        predEdgeF = new int[n + 1];
+        predEdgeB = new int[n + 1];
+        predF = new int[n + 1];
+        predB = new int[n + 1];
+        heapF = new IndexedDaryHeap(n + 1, DaryHeapDijkstra.DEFAULT_ARITY);
+        heapB = new IndexedDaryHeap(n + 1, DaryHeapDijkstra.DEFAULT_ARITY);
+        touched = new int[2 * (n + 1)];
+    }
+
+    public int settledCount() {
+        return settled;
+    }
+
+    public long distance(int source, int target) {
+        search(source, target);
+        return best;
+    }
+
+    public PathResult query(int source, int target) {
+        search(source, target);
+        if (meet < 0) return PathResult.unreachable();
+        return new PathResult(best, unpack(source, target));
+    }
+
+    private long best;
+    private int meet;
+
+    private void search(int source, int target) {
+        for (int i = 0; i < touchedCount; i++) {
+            distF[touched[i]] = INF;
+            distB[touched[i]] = INF;
+        }
+        touchedCount = 0;
+        heapF.clear();
+        heapB.clear();
+        settled = 0;
+        best = INF;
+        meet = -1;
+
+        touch(source, distF, predF, predEdgeF, heapF, 0, -1, -1);
+        touch(target, distB, predB, predEdgeB, heapB, 0, -1, -1);
+        while (true) {
+            boolean f = !heapF.isEmpty() && heapF.minKey() < best;
+            boolean b = !heapB.isEmpty() && heapB.minKey() < best;
+            if (!f && !b) break;
+            boolean forward = f && (!b || heapF.minKey() <= heapB.minKey());
+            IndexedDaryHeap heap = forward ? heapF : heapB;
+            ContractionHierarchy.Half h = forward ? ch.up : ch.down;
+            long[] dist = forward ? distF : distB;
+            long[] other = forward ? distB : distF;
+            int[] pred = forward ? predF : predB;
+            int[] predEdge = forward ? predEdgeF : predEdgeB;
+
+            int u = heap.pollMin();
+            settled++;
+            long du = dist[u];
+            if (other[u] != INF && du + other[u] < best) {
+                best = du + other[u];
+                meet = u;
+            }
+            for (int i = h.offsets[u], end = h.offsets[u + 1]; i < end; i++) {
+                int v = h.targets[i];
+                long nd = du + h.weights[i];
+                if (nd < dist[v]) touch(v, dist, pred, predEdge, heap, nd, u, i);
+            }
+        }
+    }
+
+    private void touch(int v, long[] dist, int[] pred, int[] predEdge, IndexedDaryHeap heap, long d, int p, int e) {
+        if (distF[v] == INF && distB[v] == INF) touched[touchedCount++] = v;
+        dist[v] = d;
+        pred[v] = p;
+        predEdge[v] = e;
+        heap.insertOrDecrease(v, d);
+    }
+
+    // Caminho completo no grafo original: sobe da origem até o encontro e desce até o destino
+    private int[] unpack(int source, int target) {
+        IntPath path = new IntPath();
+        path.add(source);
+
+        // arcos do lado da origem, do encontro para trás
+        int count = 0;
+        for (int v = meet; v != source; v = predF[v]) count++;
+        int[] fwdEdges = new int[count];
+        int[] fwdFrom = new int[count];
+        int k = count;
+        for (int v = meet; v != source; v = predF[v]) {
+            k--;
+            fwdEdges[k] = predEdgeF[v];
+            fwdFrom[k] = predF[v];
+        }
+        for (int i = 0; i < count; i++) {
+            int e = fwdEdges[i];
+            expand(fwdFrom[i], ch.up.targets[e], ch.up.mid[e], path);
+        }
+        // arcos do lado do destino: predB aponta para o vértice seguinte rumo ao destino
+        for (int v = meet; v != target; v = predB[v]) {
+            int e = predEdgeB[v];
+            expand(v, predB[v], ch.down.mid[e], path);
+        }
+        return path.toArray();
+    }
+
+    // Emite os vértices do arco a -> b (exceto a), expandindo atalhos sem recursão
+    private void expand(int a, int b, int mid, IntPath path) {
+        int top = 0;
+        top = push(top, a, b, mid);
+        while (top > 0) {
+            top -= 3;
+            int x = stack[top], y = stack[top + 1], m = stack[top + 2];
+            if (m < 0) {
+                path.add(y);
+                continue;
+            }
+            // x -> m fica no grafo down de m; m -> y no grafo up de m
+            int e2 = ch.up.find(m, y);
+            int e1 = ch.down.find(m, x);
+            top = push(top, m, y, ch.up.mid[e2]);
+            top = push(top, x, m, ch.down.mid[e1]);
+        }
+    }
+
+    private int push(int top, int a, int b, int mid) {
+        if (top + 3 > stack.length) stack = Arrays.copyOf(stack, stack.length * 2);
+        stack[top] = a;
+        stack[top + 1] = b;
+        stack[top + 2] = mid;
+        return top + 3;
+    }
+
+    private static final class IntPath {
+        int[] data = new int[64];
+        int size;
+
+        void add(int v) {
+            if (size == data.length) data = Arrays.copyOf(data, size * 2);
+            data[size++] = v;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(data, size);
+        }
+    }
+}
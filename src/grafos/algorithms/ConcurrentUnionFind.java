@@ -0,0 +1,88 @@
+package grafos.algorithms;
+
+import grafos.metrics.Counters;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+// Union-find sem locks sobre AtomicIntegerArray: find com compressão por halving via
+// CAS (uma falha só significa que outra thread já encurtou o caminho) e union por
+// índice (a raiz de menor índice passa a apontar para a de maior), o que impede
+// ciclos mesmo com uniões concorrentes. findSequential/unionSequential usam acessos
+// simples e servem às fases de uma única thread; sequential() as expõe como
+// DisjointSets, intercambiável com UnionFind.
+public final class ConcurrentUnionFind implements DisjointSets {
+    private final AtomicIntegerArray parent;
+    private final DisjointSets sequential = new DisjointSets() {
+        @Override
+        public int find(int x) { return findSequential(x); }
+
+        @Override
+        public boolean union(int a, int b) { return unionSequential(a, b); }
+    };
+
+    public ConcurrentUnionFind(int n) {
+        parent = new AtomicIntegerArray(n + 1);
+        for (int i = 0; i <= n; i++) parent.setPlain(i, i);
+    }
+
+    @Override
+    public int find(int x) {
+        if (Counters.ENABLED) Counters.FINDS.increment();
+        while (true) {
+            int p = parent.get(x);
+            if (p == x) return x;
+            int gp = parent.get(p);
+            if (gp == p) return p;
+            if (parent.compareAndSet(x, p, gp) && Counters.ENABLED) Counters.COMPRESSION_STEPS.increment();
+            x = gp;
+        }
+    }
+
+    // Une os conjuntos de a e b; devolve true só para a thread que efetivou a união
+    @Override
+    public boolean union(int a, int b) {
+        while (true) {
+            int ra = find(a), rb = find(b);
+            if (ra == rb) return false;
+            if (ra > rb) { int t = ra; ra = rb; rb = t; }
+            if (parent.compareAndSet(ra, ra, rb)) {
+                if (Counters.ENABLED) Counters.UNIONS.increment();
+                return true;
+            }
+        }
+    }
+
+    public boolean sameSet(int a, int b) {
+        while (true) {
+            int ra = find(a), rb = find(b);
+            if (ra == rb) return true;
+            if (parent.get(ra) == ra) return false; // ra continua raiz: conjuntos distintos
+        }
+    }
+
+    // Via sequencial (acessos simples) com os nomes de UnionFind; só para uma thread por vez
+    public DisjointSets sequential() {
+        return sequential;
+    }
+
+    public int findSequential(int x) {
+        if (Counters.ENABLED) Counters.FINDS.increment();
+        while (true) {
+            int p = parent.getPlain(x);
+            if (p == x) return x;
+            int gp = parent.getPlain(p);
+            parent.setPlain(x, gp);
+            if (Counters.ENABLED && gp != p) Counters.COMPRESSION_STEPS.increment();
+            x = gp;
+        }
+    }
+
+    public boolean unionSequential(int a, int b) {
+        int ra = findSequential(a), rb = findSequential(b);
+        if (ra == rb) return false;
+        if (Counters.ENABLED) Counters.UNIONS.increment();
+        if (ra > rb) parent.setPlain(rb, ra);
+        else parent.setPlain(ra, rb);
+        return true;
+    }
+}
@@ -0,0 +1,366 @@
+package grafos.algorithms;
+
+import grafos.model.CsrGraph;
+import grafos.model.Graph;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+// Contraction Hierarchies: os vértices são contraídos um a um em ordem de importância
+// (diferença de arestas + vizinhos já contraídos), inserindo atalhos que preservam as
+// distâncias entre os vértices restantes. O resultado são dois grafos CSR "para cima":
+// up (arcos u -> v com rank[v] > rank[u]) para a busca a partir da origem e down
+// (arcos u -> v com rank[u] > rank[v], guardados em v) para a busca a partir do destino.
+// Cada arco guarda o vértice intermediário do atalho (-1 para arcos originais),
+// o que permite desempacotar caminhos. Consultas ficam em ChQuery.
+public final class ContractionHierarchy {
+    public static final String EXTENSION = ".ch";
+
+    private static final int MAGIC = 0x48435247; // "GRCH"
+    private static final int VERSION = 1;
+    private static final long INF = Long.MAX_VALUE;
+    // limites de vértices estabelecidos por busca de testemunha: menor ao apenas estimar
+    // a prioridade, maior ao contrair de fato (menos atalhos desnecessários)
+    private static final int ESTIMATE_SETTLE_LIMIT = 50;
+    private static final int CONTRACT_SETTLE_LIMIT = 500;
+
+    // Grafo de busca de um lado da hierarquia, em CSR
+    static final class Half {
+        final int[] offsets;
+        final int[] targets;
+        final long[] weights;
+        final int[] mid;
+
+        Half(int[] offsets, int[] targets, long[] weights, int[] mid) {
+            this.offsets = offsets;
+            this.targets = targets;
+            this.weights = weights;
+            this.mid = mid;
+        }
+
+        // Índice do arco de u para v, ou -1
+        int find(int u, int v) {
+            for (int i = offsets[u], end = offsets[u + 1]; i < end; i++) {
+                if (targets[i] == v) return i;
+            }
+            return -1;
+        }
+    }
+
+    public final int n;
+    final int[] rank;
+    final Half up;
+    final Half down;
+
+    private ContractionHierarchy(int n, int[] rank, Half up, Half down) {
+        this.n = n;
+        this.rank = rank;
+        this.up = up;
+        this.down = down;
+    }
+
+    public static ContractionHierarchy build(Graph g) {
+        return new Contractor(g.dirCsr()).run();
+    }
+
+    // Número de arcos das duas metades (originais + atalhos)
+    public int arcCount() {
+        return up.targets.length + down.targets.length;
+    }
+
+    // Caminho padrão da hierarquia ao lado do grafo (x.gr ou x.gr.gz -> x.gr.ch)
+    public static String defaultPath(String graphFile) {
+        String base = graphFile.endsWith(".gz") ? graphFile.substring(0, graphFile.length() - 3) : graphFile;
+        return base + EXTENSION;
+    }
+
+    public void save(String path) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(path), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(n);
+            for (int v = 0; v <= n; v++) out.writeInt(rank[v]);
+            writeHalf(out, up);
+            writeHalf(out, down);
+        }
+    }
+
+    public static ContractionHierarchy load(String path, Graph g) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(path), 1 << 16))) {
+            if (in.readInt() != MAGIC) throw new IOException("Arquivo não contém uma hierarquia de contração: " + path);
+            int version = in.readInt();
+            if (version != VERSION) throw new IOException("Versão de hierarquia não suportada (" + version + "): " + path);
+            int n = in.readInt();
+            if (n != g.n) throw new IOException("Hierarquia calculada para outro grafo (n=" + n + "): " + path);
+            int[] rank = new int[n + 1];
+            for (int v = 0; v <= n; v++) rank[v] = in.readInt();
+            Half up = readHalf(in, n);
+            Half down = readHalf(in, n);
+            return new ContractionHierarchy(n, rank, up, down);
+        }
+    }
+
+    private static void writeHalf(DataOutputStream out, Half h) throws IOException {
+        out.writeInt(h.targets.length);
+        for (int x : h.offsets) out.writeInt(x);
+        for (int x : h.targets) out.writeInt(x);
+        for (long x : h.weights) out.writeLong(x);
+        for (int x : h.mid) out.writeInt(x);
+    }
+
+    private static Half readHalf(DataInputStream in, int n) throws IOException {
+        int m = in.readInt();
+        int[] offsets = new int[n + 2];
+        int[] targets = new int[m];
+        long[] weights = new long[m];
+        int[] mid = new int[m];
+        for (int i = 0; i < offsets.length; i++) offsets[i] = in.readInt();
+        for (int i = 0; i < m; i++) targets[i] = in.readInt();
+        for (int i = 0; i < m; i++) weights[i] = in.readLong();
+        for (int i = 0; i < m; i++) mid[i] = in.readInt();
+        if (offsets[n + 1] != m) throw new IOException("Hierarquia corrompida");
+        return new Half(offsets, targets, weights, mid);
+    }
+
+    // Adjacência mutável usada durante a contração (um arco por par de vértices)
+    private static final class DynAdj {
+        final int[][] to;
+        final long[][] w;
+        final int[][] mid;
+        final int[] deg;
+
+        DynAdj(int n) {
+            to = new int[n + 1][];
+            w = new long[n + 1][];
+            mid = new int[n + 1][];
+            deg = new int[n + 1];
+        }
+
+        // Adiciona o arco ou reduz seu peso; devolve falso se já havia um arco tão curto
+        boolean addOrImprove(int u, int v, long wt, int m) {
+            int[] t = to[u];
+            for (int i = 0; i < deg[u]; i++) {
+                if (t[i] == v) {
+                    if (wt >= w[u][i]) return false;
+                    w[u][i] = wt;
+                    mid[u][i] = m;
+                    return true;
+                }
+            }
+            if (t == null || deg[u] == t.length) {
+                int cap = t == null ? 4 : t.length * 2;
+                to[u] = t == null ? new int[cap] : Arrays.copyOf(t, cap);
+                w[u] = w[u] == null ? new long[cap] : Arrays.copyOf(w[u], cap);
+                mid[u] = mid[u] == null ? new int[cap] : Arrays.copyOf(mid[u], cap);
+            }
+            int i = deg[u]++;
+            to[u][i] = v;
+            w[u][i] = wt;
+            mid[u][i] = m;
+            return true;
+        }
+    }
+
+    private static final class Contractor {
+        final int n;
+        final DynAdj out;
+        final DynAdj in;
+        final boolean[] contracted;
+        final int[] deleted;   // vizinhos já contraídos
+        final int[] rank;
+        final int[] neighborMark;
+
+        // busca de testemunha (reinicia só os vértices tocados)
+        final long[] wdist;
+        final IndexedDaryHeap wheap;
+        final int[] wtouched;
+        int wtouchedCount;
+
+        // atalhos pendentes da contração corrente
+        int[] scFrom = new int[16];
+        int[] scTo = new int[16];
+        long[] scW = new long[16];
+        int scCount;
+
+        Contractor(CsrGraph g) {
+            n = g.n;
+            out = new DynAdj(n);
+            in = new DynAdj(n);
+            for (int u = 1; u <= n; u++) {
+                for (int i = g.offsets[u], end = g.offsets[u + 1]; i < end; i++) {
+                    int v = g.targets[i];
+                    if (v == u) continue;
+                    out.addOrImprove(u, v, g.weights[i], -1);
+                    in.addOrImprove(v, u, g.weights[i], -1);
+                }
+            }
+            contracted = new boolean[n + 1];
+            deleted = new int[n + 1];
+            rank = new int[n + 1];
+            neighborMark = new int[n + 1];
+            wdist = new long[n + 1];
+            Arrays.fill(wdist, INF);
+            wheap = new IndexedDaryHeap(n + 1, DaryHeapDijkstra.DEFAULT_ARITY);
+            wtouched = new int[n + 1];
+        }
+
+        ContractionHierarchy run() {
+            IndexedDaryHeap queue = new IndexedDaryHeap(n + 1, DaryHeapDijkstra.DEFAULT_ARITY);
+            for (int v = 1; v <= n; v++) queue.insert(v, priority(v));
+
+            int order = 0;
+            while (!queue.isEmpty()) {
+                int v = queue.pollMin();
+                // atualização preguiçosa: a prioridade pode ter mudado desde a inserção
+                if (!queue.isEmpty()) {
+                    long p = priority(v);
+                    if (p > queue.minKey()) {
+                        queue.insert(v, p);
+                        continue;
+                    }
+                }
+                contract(v);
+                rank[v] = order++;
+
+                // vizinhos: um contraído a mais e prioridade recalculada
+                for (int pass = 0; pass < 2; pass++) {
+                    DynAdj adj = pass == 0 ? out : in;
+                    for (int i = 0; i < adj.deg[v]; i++) {
+                        int x = adj.to[v][i];
+                        if (contracted[x] || neighborMark[x] == v) continue;
+                        neighborMark[x] = v;
+                        deleted[x]++;
+                        if (queue.contains(x)) queue.changeKey(x, priority(x));
+                    }
+                }
+            }
+            rank[0] = -1;
+            return buildHierarchy();
+        }
+
+        long priority(int v) {
+            int removed = 0;
+            for (int i = 0; i < out.deg[v]; i++) if (!contracted[out.to[v][i]]) removed++;
+            for (int i = 0; i < in.deg[v]; i++) if (!contracted[in.to[v][i]]) removed++;
+            int shortcuts = findShortcuts(v, ESTIMATE_SETTLE_LIMIT);
+            return (long) shortcuts - removed + deleted[v];
+        }
+
+        void contract(int v) {
+            findShortcuts(v, CONTRACT_SETTLE_LIMIT);
+            for (int i = 0; i < scCount; i++) {
+                out.addOrImprove(scFrom[i], scTo[i], scW[i], v);
+                in.addOrImprove(scTo[i], scFrom[i], scW[i], v);
+            }
+            contracted[v] = true;
+        }
+
+        // Atalhos u -> w necessários ao remover v (pares sem caminho-testemunha tão curto)
+        int findShortcuts(int v, int settleLimit) {
+            scCount = 0;
+            long maxOut = -1;
+            for (int j = 0; j < out.deg[v]; j++) {
+                if (!contracted[out.to[v][j]]) maxOut = Math.max(maxOut, out.w[v][j]);
+            }
+            if (maxOut < 0) return 0;
+
+            for (int i = 0; i < in.deg[v]; i++) {
+                int u = in.to[v][i];
+                if (contracted[u]) continue;
+                long duv = in.w[v][i];
+                witness(u, v, duv + maxOut, settleLimit);
+                for (int j = 0; j < out.deg[v]; j++) {
+                    int w = out.to[v][j];
+                    if (contracted[w] || w == u) continue;
+                    long via = duv + out.w[v][j];
+                    if (wdist[w] > via) addPending(u, w, via);
+                }
+            }
+            return scCount;
+        }
+
+        // Dijkstra limitado a partir de source, sem passar por skip
+        void witness(int source, int skip, long maxDist, int settleLimit) {
+            for (int i = 0; i < wtouchedCount; i++) wdist[wtouched[i]] = INF;
+            wtouchedCount = 0;
+            wheap.clear();
+
+            wdist[source] = 0;
+            wtouched[wtouchedCount++] = source;
+            wheap.insert(source, 0);
+            int settled = 0;
+            while (!wheap.isEmpty() && wheap.minKey() <= maxDist && settled++ < settleLimit) {
+                int x = wheap.pollMin();
+                long dx = wdist[x];
+                int[] to = out.to[x];
+                long[] w = out.w[x];
+                for (int i = 0; i < out.deg[x]; i++) {
+                    int y = to[i];
+                    if (y == skip || contracted[y]) continue;
+                    long nd = dx + w[i];
+                    if (nd < wdist[y]) {
+                        if (wdist[y] == INF) wtouched[wtouchedCount++] = y;
+                        wdist[y] = nd;
+                        wheap.insertOrDecrease(y, nd);
+                    }
+                }
+            }
+        }
+
+        void addPending(int u, int w, long wt) {
+            if (scCount == scFrom.length) {
+                int cap = scCount * 2;
+                scFrom = Arrays.copyOf(scFrom, cap);
+                scTo = Arrays.copyOf(scTo, cap);
+                scW = Arrays.copyOf(scW, cap);
+            }
+            scFrom[scCount] = u;
+            scTo[scCount] = w;
+            scW[scCount] = wt;
+            scCount++;
+        }
+
+        ContractionHierarchy buildHierarchy() {
+            int[] upCount = new int[n + 2];
+            int[] downCount = new int[n + 2];
+            for (int u = 1; u <= n; u++) {
+                for (int i = 0; i < out.deg[u]; i++) {
+                    int v = out.to[u][i];
+                    if (rank[v] > rank[u]) upCount[u + 1]++;
+                    else downCount[v + 1]++;
+                }
+            }
+            for (int u = 0; u <= n; u++) {
+                upCount[u + 1] += upCount[u];
+                downCount[u + 1] += downCount[u];
+            }
+            Half up = new Half(upCount, new int[upCount[n + 1]], new long[upCount[n + 1]], new int[upCount[n + 1]]);
+            Half down = new Half(downCount, new int[downCount[n + 1]], new long[downCount[n + 1]], new int[downCount[n + 1]]);
+            int[] upNext = Arrays.copyOf(upCount, n + 1);
+            int[] downNext = Arrays.copyOf(downCount, n + 1);
+            for (int u = 1; u <= n; u++) {
+                for (int i = 0; i < out.deg[u]; i++) {
+                    int v = out.to[u][i];
+                    if (rank[v] > rank[u]) {
+                        int p = upNext[u]++;
+                        up.targets[p] = v;
+                        up.weights[p] = out.w[u][i];
+                        up.mid[p] = out.mid[u][i];
+                    } else {
+                        int p = downNext[v]++;
+                        down.targets[p] = u;
+                        down.weights[p] = out.w[u][i];
+                        down.mid[p] = out.mid[u][i];
+                    }
+                }
+            }
+            return new ContractionHierarchy(n, rank, up, down);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package grafos.algorithms;
+
+import grafos.metrics.Counters;
+import grafos.model.CsrGraph;
+
+import java.util.Arrays;
+
+// Dijkstra com heap d-ário indexado (decrease-key) sobre a adjacência CSR.
+// Uma instância guarda os arrays de trabalho e pode ser reutilizada entre
+// consultas na mesma thread: nenhuma alocação ocorre durante a busca.
+public final class DaryHeapDijkstra {
+    public static final int DEFAULT_ARITY = 4;
+
+    private final CsrGraph g;
+    private final long[] dist;
+    private final IndexedDaryHeap heap;
+
+    public DaryHeapDijkstra(CsrGraph g) {
+        this(g, DEFAULT_ARITY);
+    }
+
+    public DaryHeapDijkstra(CsrGraph g, int arity) {
+        this.g = g;
+        this.dist = new long[g.n + 1];
+        this.heap = new IndexedDaryHeap(g.n + 1, arity);
+    }
+
+    public CsrGraph graph() {
+        return g;
+    }
+
+    // Executa a busca e devolve o array interno de distâncias (sobrescrito na próxima chamada)
+    public long[] run(int source) {
+        Arrays.fill(dist, Long.MAX_VALUE);
+        heap.clear();
+        int[] offsets = g.offsets, targets = g.targets, weights = g.weights;
+
+        long relaxed = 0, pushes = 1;
+        dist[source] = 0;
+        heap.insert(source, 0);
+        while (!heap.isEmpty()) {
+            int u = heap.pollMin();
+            long du = dist[u];
+            relaxed += offsets[u + 1] - offsets[u];
+            for (int i = offsets[u], end = offsets[u + 1]; i < end; i++) {
+                int v = targets[i];
+                long nd = du + weights[i];
+                if (nd < dist[v]) {
+                    dist[v] = nd;
+                    heap.insertOrDecrease(v, nd);
+                    pushes++;
+                }
+            }
+        }
+        if (Counters.ENABLED) Counters.addSearch(relaxed, pushes, 0);
+        return dist;
+    }
+
+    // Mesma busca registrando predecessores e ordem de estabelecimento; os arrays
+    // são novos a cada chamada e pertencem à árvore devolvida
+    public ShortestPathTree tree(int source) {
+        int size = g.n + 1;
+        long[] dist = new long[size];
+        int[] pred = new int[size];
+        int[] order = new int[size];
+        Arrays.fill(dist, Long.MAX_VALUE);
+        Arrays.fill(pred, -1);
+        heap.clear();
+        int[] offsets = g.offsets, targets = g.targets, weights = g.weights;
+
+        int reached = 0;
+        long relaxed = 0, pushes = 1;
+        dist[source] = 0;
+        heap.insert(source, 0);
+        while (!heap.isEmpty()) {
+            int u = heap.pollMin();
+            order[reached++] = u;
+            long du = dist[u];
+            relaxed += offsets[u + 1] - offsets[u];
+            for (int i = offsets[u], end = offsets[u + 1]; i < end; i++) {
+                int v = targets[i];
+                long nd = du + weights[i];
+                if (nd < dist[v]) {
+                    dist[v] = nd;
+                    pred[v] = u;
+                    heap.insertOrDecrease(v, nd);
+                    pushes++;
+                }
+            }
+        }
+        if (Counters.ENABLED) Counters.addSearch(relaxed, pushes, 0);
+        return new ShortestPathTree(source, dist, pred, order, reached);
+    }
+
+    public long[] distances() {
+        return dist;
+    }
+
+    // Consulta avulsa: a instância é descartada, então o vetor devolvido pertence ao chamador
+    public static long[] dijkstra(CsrGraph g, int source) {
+        return new DaryHeapDijkstra(g).run(source);
+    }
+
+    public static ShortestPathTree shortestPathTree(CsrGraph g, int source) {
+        return new DaryHeapDijkstra(g).tree(source);
+    }
+}
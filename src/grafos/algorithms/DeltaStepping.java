@@ -0,0 +1,260 @@
+package grafos.algorithms;
+
+import grafos.model.CsrGraph;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// Caminhos mínimos de fonte única por delta-stepping (Meyer & Sanders): vértices são
+// agrupados em baldes de largura delta pela distância provisória; cada balde é esvaziado
+// relaxando em paralelo os arcos leves (peso <= delta), repetindo até estabilizar, e
+// depois os arcos pesados dos vértices estabelecidos nele. Devolve o mesmo long[] de
+// Dijkstra.dijkstra (Long.MAX_VALUE para inalcançáveis).
+// A cópia do CSR com os arcos leves antes dos pesados em cada vértice é montada uma vez
+// por grafo (e delta) e compartilhada; a instância só guarda o estado de uma busca e
+// pode ser reutilizada em várias consultas (não simultâneas).
+public final class DeltaStepping {
+    private static final long INF = Long.MAX_VALUE;
+    private static final VarHandle DIST = MethodHandles.arrayElementVarHandle(long[].class);
+    // abaixo deste tamanho a fronteira é relaxada na própria thread
+    private static final int GRAIN = 512;
+    private static final int MAX_SLOTS = 1 << 24;
+
+    // Delta usado por Dijkstra.Engine.DELTA_STEPPING; 0 escolhe automaticamente
+    public static long DELTA = 0;
+
+    // partições leve/pesada já montadas, por grafo (chaves fracas: somem com o grafo)
+    private static final Map<CsrGraph, Partition> PARTITIONS = new WeakHashMap<>();
+
+    private final int n;
+    private final int[] offsets;
+    private final int[] lightEnd; // arcos leves de u em [offsets[u], lightEnd[u])
+    private final int[] targets;
+    private final int[] weights;
+    private final long delta;
+    private final int slots;      // baldes cíclicos: todo rótulo pendente cabe em [cur, cur + slots)
+
+    private long[] dist;
+    private IntBag[] buckets;
+    private final int[] frontierMark; // último balde/rodada em que o vértice entrou na fronteira
+    private final long[] settledMark; // último balde em que o vértice foi estabelecido
+
+    public DeltaStepping(CsrGraph g, long delta) {
+        if (delta <= 0) throw new IllegalArgumentException("delta deve ser positivo");
+        Partition p = partition(g, delta);
+        this.n = g.n;
+        this.delta = delta;
+        this.offsets = g.offsets;
+        this.targets = p.targets;
+        this.weights = p.weights;
+        this.lightEnd = p.lightEnd;
+        this.slots = p.slots;
+        this.frontierMark = new int[n + 1];
+        this.settledMark = new long[n + 1];
+    }
+
+    // Arcos de g reordenados com os leves (peso <= delta) antes dos pesados em cada vértice
+    private static final class Partition {
+        final long delta;
+        final int[] lightEnd;
+        final int[] targets;
+        final int[] weights;
+        final int slots;
+
+        Partition(CsrGraph g, long delta) {
+            int n = g.n;
+            int[] offsets = g.offsets;
+            int m = g.arcCount();
+            this.delta = delta;
+            this.targets = new int[m];
+            this.weights = new int[m];
+            this.lightEnd = new int[n + 1];
+            int maxW = 0;
+            for (int u = 0; u <= n; u++) {
+                int lo = offsets[u], hi = offsets[u + 1];
+                int l = lo, h = hi;
+                for (int i = lo; i < hi; i++) {
+                    int w = g.weights[i];
+                    maxW = Math.max(maxW, w);
+                    int p = w <= delta ? l++ : --h;
+                    targets[p] = g.targets[i];
+                    weights[p] = w;
+                }
+                lightEnd[u] = l;
+            }
+            long slots = maxW / delta + 2;
+            if (slots > MAX_SLOTS) throw new IllegalArgumentException("delta pequeno demais para o peso máximo " + maxW);
+            this.slots = (int) slots;
+        }
+    }
+
+    // Partição de g para este delta, montada só na primeira consulta (ou quando delta muda)
+    private static Partition partition(CsrGraph g, long delta) {
+        synchronized (PARTITIONS) {
+            Partition p = PARTITIONS.get(g);
+            if (p != null && p.delta == delta) return p;
+        }
+        Partition p = new Partition(g, delta);
+        synchronized (PARTITIONS) {
+            PARTITIONS.put(g, p);
+        }
+        return p;
+    }
+
+    // Delta automático: quatro vezes o peso médio dos arcos (ao menos 1)
+    public static long defaultDelta(CsrGraph g) {
+        long sum = 0;
+        for (int w : g.weights) sum += w;
+        int m = g.arcCount();
+        return Math.max(1L, m > 0 ? 4 * sum / m : 1L);
+    }
+
+    public static long[] shortestPaths(CsrGraph g, int source) {
+        long delta = DELTA > 0 ? DELTA : defaultDelta(g);
+        return new DeltaStepping(g, delta).run(source, ForkJoinPool.commonPool());
+    }
+
+    public long[] run(int source, ForkJoinPool pool) {
+        dist = new long[n + 1];
+        Arrays.fill(dist, INF);
+        Arrays.fill(frontierMark, 0);
+        Arrays.fill(settledMark, -1);
+        buckets = new IntBag[slots]; // alocados sob demanda
+        int nb = slots;
+
+        dist[source] = 0;
+        buckets[0] = new IntBag(16);
+        buckets[0].add(source);
+        int round = 0;
+        IntBag settled = new IntBag(64);
+
+        for (long cur = 0; ; cur++) {
+            // próximo balde não vazio; se nenhum dos 'nb' seguintes tem itens, terminou
+            long start = cur;
+            while (cur - start < nb && isEmpty(buckets[(int) (cur % nb)])) cur++;
+            if (cur - start == nb) break;
+
+            IntBag bucket = buckets[(int) (cur % nb)];
+            settled.size = 0;
+            while (bucket.size > 0) {
+                // fronteira: entradas atuais do balde, sem duplicatas nem rótulos desatualizados
+                round++;
+                IntBag frontier = new IntBag(bucket.size);
+                for (int i = 0; i < bucket.size; i++) {
+                    int v = bucket.data[i];
+                    if (dist[v] / delta != cur || frontierMark[v] == round) continue;
+                    frontierMark[v] = round;
+                    frontier.add(v);
+                    if (settledMark[v] != cur) {
+                        settledMark[v] = cur;
+                        settled.add(v);
+                    }
+                }
+                bucket.size = 0;
+                distribute(relax(pool, frontier, true), nb);
+            }
+            distribute(relax(pool, settled, false), nb);
+        }
+        long[] out = dist;
+        dist = null;
+        buckets = null;
+        return out;
+    }
+
+    private IntBag relax(ForkJoinPool pool, IntBag frontier, boolean light) {
+        if (frontier.size <= GRAIN) return relaxRange(frontier, 0, frontier.size, light);
+        return pool.invoke(new RelaxTask(frontier, 0, frontier.size, light));
+    }
+
+    // Relaxa os arcos (leves ou pesados) dos vértices em frontier[lo, hi); devolve os melhorados
+    private IntBag relaxRange(IntBag frontier, int lo, int hi, boolean light) {
+        IntBag improved = new IntBag(Math.max(16, hi - lo));
+        long[] d = dist;
+        for (int k = lo; k < hi; k++) {
+            int u = frontier.data[k];
+            long du = (long) DIST.getAcquire(d, u);
+            int from = light ? offsets[u] : lightEnd[u];
+            int to = light ? lightEnd[u] : offsets[u + 1];
+            for (int i = from; i < to; i++) {
+                int v = targets[i];
+                long nd = du + weights[i];
+                long cur = (long) DIST.getAcquire(d, v);
+                while (nd < cur) {
+                    if (DIST.compareAndSet(d, v, cur, nd)) {
+                        improved.add(v);
+                        break;
+                    }
+                    cur = (long) DIST.getAcquire(d, v);
+                }
+            }
+        }
+        return improved;
+    }
+
+    private void distribute(IntBag improved, int nb) {
+        for (int i = 0; i < improved.size; i++) {
+            int v = improved.data[i];
+            int slot = (int) ((dist[v] / delta) % nb);
+            if (buckets[slot] == null) buckets[slot] = new IntBag(16);
+            buckets[slot].add(v);
+        }
+    }
+
+    private static boolean isEmpty(IntBag bag) {
+        return bag == null || bag.size == 0;
+    }
+
+    private final class RelaxTask extends RecursiveTask<IntBag> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient IntBag frontier;
+        private final int lo;
+        private final int hi;
+        private final boolean light;
+
+        RelaxTask(IntBag frontier, int lo, int hi, boolean light) {
+            this.frontier = frontier;
+            this.lo = lo;
+            this.hi = hi;
+            this.light = light;
+        }
+
+        @Override
+        protected IntBag compute() {
+            if (hi - lo <= GRAIN) return relaxRange(frontier, lo, hi, light);
+            int mid = (lo + hi) >>> 1;
+            RelaxTask left = new RelaxTask(frontier, lo, mid, light);
+            left.fork();
+            IntBag right = new RelaxTask(frontier, mid, hi, light).compute();
+            IntBag result = left.join();
+            result.addAll(right);
+            return result;
+        }
+    }
+
+    // Lista crescente de inteiros
+    private static final class IntBag {
+        int[] data;
+        int size;
+
+        IntBag(int capacity) {
+            data = new int[Math.max(4, capacity)];
+        }
+
+        void add(int v) {
+            if (size == data.length) data = Arrays.copyOf(data, size * 2);
+            data[size++] = v;
+        }
+
+        void addAll(IntBag other) {
+            if (size + other.size > data.length) data = Arrays.copyOf(data, Math.max(size + other.size, size * 2));
+            System.arraycopy(other.data, 0, data, size, other.size);
+            size += other.size;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package grafos.algorithms;
+
+import java.util.Arrays;
+
+// Fila de baldes de Dial: um balde por valor de chave, em arranjo circular de
+// maxSpan + 1 posições. Vale enquanto todas as chaves presentes couberem em
+// [mínimo, mínimo + maxSpan] — no Dijkstra, maxSpan é o peso máximo; no Prim,
+// as chaves são os próprios pesos. Como no RadixHeap, não há decrease-key.
+public final class DialQueue {
+    private final int span;        // número de baldes (maxSpan + 1)
+    private final int[][] buckets; // alocados sob demanda
+    private final int[] counts;
+    private long cursor;           // chave do balde corrente (nenhuma chave presente é menor)
+    private int size;
+
+    public DialQueue(int maxSpan) {
+        if (maxSpan < 0) throw new IllegalArgumentException("amplitude negativa");
+        this.span = maxSpan + 1;
+        this.buckets = new int[span][];
+        this.counts = new int[span];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Chave do último item retirado
+    public long lastKey() {
+        return cursor;
+    }
+
+    public void insert(int item, long key) {
+        if (size == 0 || key < cursor) cursor = key;
+        int b = (int) (key % span);
+        int[] bucket = buckets[b];
+        int c = counts[b];
+        if (bucket == null) bucket = buckets[b] = new int[4];
+        else if (c == bucket.length) bucket = buckets[b] = Arrays.copyOf(bucket, c * 2);
+        bucket[c] = item;
+        counts[b] = c + 1;
+        size++;
+    }
+
+    public int pollMin() {
+        int b = (int) (cursor % span);
+        while (counts[b] == 0) {
+            cursor++;
+            if (++b == span) b = 0;
+        }
+        size--;
+        return buckets[b][--counts[b]];
+    }
+
+    public void clear() {
+        Arrays.fill(counts, 0);
+        size = 0;
+        cursor = 0;
+    }
+}
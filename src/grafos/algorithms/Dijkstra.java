@@ -1,6 +1,7 @@
 package grafos.algorithms;
 
-import grafos.model.Edge;
+import grafos.metrics.Counters;
+import grafos.model.CsrGraph;
 import grafos.model.Graph;
 
 import java.util.Arrays;
@@ -8,7 +9,42 @@ import java.util.PriorityQueue;
 
 public class Dijkstra {
 
+    // Implementações disponíveis; PRIORITY_QUEUE é a versão original (lazy, com java.util.PriorityQueue)
+    public enum Engine {
+        PRIORITY_QUEUE("pq"),
+        DARY_HEAP("dary"),
+        DELTA_STEPPING("delta"),
+        RADIX_HEAP("radix"),
+        DIAL("dial");
+
+        public final String cliName;
+
+        Engine(String cliName) { this.cliName = cliName; }
+
+        public static Engine fromCliName(String name) {
+            for (Engine e : values()) {
+                if (e.cliName.equalsIgnoreCase(name)) return e;
+            }
+            throw new IllegalArgumentException("Motor de Dijkstra desconhecido: " + name);
+        }
+    }
+
+    public static long[] dijkstra(Graph g, int source, Engine engine) {
+        switch (engine) {
+            case DARY_HEAP: return DaryHeapDijkstra.dijkstra(g.dirCsr(), source);
+            case DELTA_STEPPING: return DeltaStepping.shortestPaths(g.dirCsr(), source);
+            case RADIX_HEAP: return IntegerDijkstra.radixHeap(g.dirCsr(), source);
+            case DIAL: return IntegerDijkstra.dial(g.dirCsr(), source);
+            default: return dijkstra(g, source);
+        }
+    }
+
     public static long[] dijkstra(Graph g, int source) {
+        return dijkstra(g.dirCsr(), source);
+    }
+
+    // Versão original (PriorityQueue de nós, com entradas obsoletas) sobre a adjacência CSR
+    public static long[] dijkstra(CsrGraph g, int source) {
         int n = g.n;
         long[] dist = new long[n + 1];
         Arrays.fill(dist, Long.MAX_VALUE);
@@ -19,27 +55,51 @@ public class Dijkstra {
             @Override public int compareTo(Node o) { return Long.compare(this.d, o.d); }
         }
 
+        int[] offsets = g.offsets, targets = g.targets, weights = g.weights;
         PriorityQueue<Node> pq = new PriorityQueue<>();
         pq.add(new Node(source, 0));
         boolean[] visited = new boolean[n + 1];
+        long relaxed = 0, pushes = 1, stale = 0;
 
         while (!pq.isEmpty()) {
             Node cur = pq.poll();
             int u = cur.v;
-            if (visited[u]) continue;
+            if (visited[u]) { stale++; continue; }
             visited[u] = true;
-            for (Edge e : g.adjDir.get(u)) {
-                int v = e.v;
-                long nd = dist[u] + e.w;
+            long du = dist[u];
+            relaxed += offsets[u + 1] - offsets[u];
+            for (int i = offsets[u], end = offsets[u + 1]; i < end; i++) {
+                int v = targets[i];
+                long nd = du + weights[i];
                 if (nd < dist[v]) {
                     dist[v] = nd;
                     pq.add(new Node(v, nd));
+                    pushes++;
                 }
             }
         }
+        if (Counters.ENABLED) Counters.addSearch(relaxed, pushes, stale);
         return dist;
     }
 
+    // Árvore de caminhos mínimos (distâncias + predecessores). O heap d-ário registra os
+    // predecessores durante a busca; os demais motores calculam as distâncias e a árvore
+    // sai de uma passada linear sobre os arcos justos.
+    public static ShortestPathTree shortestPathTree(Graph g, int source, Engine engine) {
+        if (engine == Engine.DARY_HEAP) return DaryHeapDijkstra.shortestPathTree(g.dirCsr(), source);
+        return ShortestPathTree.fromDistances(g.dirCsr(), source, dijkstra(g, source, engine));
+    }
+
+    public static ShortestPathTree shortestPathTree(Graph g, int source) {
+        return shortestPathTree(g, source, Engine.DARY_HEAP);
+    }
+
+    // Consulta origem-destino (Dijkstra bidirecional); para muitas consultas no mesmo
+    // grafo, reutilize uma instância de BidirectionalDijkstra
+    public static PathResult shortestPath(Graph g, int source, int target) {
+        return BidirectionalDijkstra.shortestPath(g, source, target);
+    }
+
     public static long totalDistance(long[] dist) {
         long sum = 0;
         for (int i = 1; i < dist.length; i++) {
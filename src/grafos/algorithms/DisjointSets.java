@@ -0,0 +1,11 @@
+package grafos.algorithms;
+
+// Operações comuns de UnionFind e ConcurrentUnionFind (e de sua via sequencial),
+// para que o mesmo código cliente sirva às implementações
+public interface DisjointSets {
+    // Representante do conjunto de x
+    int find(int x);
+
+    // Une os conjuntos de a e b; devolve false se já eram o mesmo conjunto
+    boolean union(int a, int b);
+}
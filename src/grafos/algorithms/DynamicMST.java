@@ -0,0 +1,442 @@
+package grafos.algorithms;
+
+import grafos.model.CsrGraph;
+import grafos.model.Graph;
+
+import java.util.Arrays;
+
+// Floresta geradora mínima mantida sob alterações de arestas, sem refazer o Kruskal:
+//  - inserção / redução de peso de aresta fora da árvore: se a aresta mais pesada do
+//    ciclo formado (máximo no caminho u-v da árvore) for mais pesada, as duas trocam;
+//  - remoção / aumento de peso de aresta da árvore: a aresta é cortada e procura-se a
+//    substituta mais leve entre as arestas que cruzam o corte, varrendo só o lado menor.
+// O caminho da árvore é consultado numa link-cut tree (cada aresta da árvore vira um nó
+// com seu peso, e o agregado é o nó de peso máximo), em O(log n) amortizado. Arestas
+// são identificadas por índices estáveis (as de g.undirEdges() mantêm sua posição).
+// Custo: inserção e redução de peso em O(log n) amortizado; remoção ou aumento de peso
+// de aresta da árvore em O(s + soma dos graus do lado menor), s = vértices do lado menor
+// do corte. Não há índice de arestas fora da árvore por componente, então um corte que
+// divide a árvore ao meio custa Θ(n) (Θ(n + m) no pior caso); em grafos viários as
+// remoções costumam isolar trechos pequenos.
+public final class DynamicMST {
+    private static final int NIL = -1;
+
+    private final int n;
+    // arestas
+    private int edgeCount;
+    private int[] eu, ev, ew;
+    private boolean[] alive, inTree;
+    // incidência (todas as arestas vivas) e adjacência da floresta, por vértice
+    private final IntList[] incident;
+    private final IntList[] treeAdj;
+    private long cost;
+    private int treeEdges;
+
+    // link-cut tree: nós 0..n são vértices, n + 1 + id é a aresta id
+    private int[] ch0, ch1, par, mx;
+    private long[] val;
+    private boolean[] rev;
+    private int[] splayPath = new int[64];
+
+    // busca da substituta
+    private final int[] queueA, queueB;
+    private final int[] markA, markB;
+    private int stamp;
+
+    public DynamicMST(Graph g) {
+        this.n = g.n;
+        CsrGraph edges = g.undirEdges();
+        int m = edges.arcCount();
+        int cap = Math.max(16, m);
+        eu = new int[cap];
+        ev = new int[cap];
+        ew = new int[cap];
+        alive = new boolean[cap];
+        inTree = new boolean[cap];
+        incident = new IntList[n + 1];
+        treeAdj = new IntList[n + 1];
+        for (int v = 0; v <= n; v++) {
+            incident[v] = new IntList();
+            treeAdj[v] = new IntList();
+        }
+        int nodes = n + 1 + cap;
+        ch0 = new int[nodes];
+        ch1 = new int[nodes];
+        par = new int[nodes];
+        mx = new int[nodes];
+        val = new long[nodes];
+        rev = new boolean[nodes];
+        for (int x = 0; x < nodes; x++) initNode(x, -1);
+        queueA = new int[n + 1];
+        queueB = new int[n + 1];
+        markA = new int[n + 1];
+        markB = new int[n + 1];
+
+        long[] keys = new long[m];
+        for (int u = 0, i = 0; u <= n; u++) {
+            for (int k = edges.offsets[u], end = edges.offsets[u + 1]; k < end; k++, i++) {
+                newEdge(u, edges.targets[k], edges.weights[k]);
+                keys[i] = ((long) edges.weights[k] << 32) | i;
+            }
+        }
+        Arrays.parallelSort(keys);
+        UnionFind uf = new UnionFind(n);
+        for (long key : keys) {
+            int id = (int) key;
+            int ru = uf.find(eu[id]), rv = uf.find(ev[id]);
+            if (ru != rv) {
+                uf.union(ru, rv);
+                addToTree(id);
+            }
+        }
+    }
+
+    public long cost() {
+        return cost;
+    }
+
+    public int treeEdgeCount() {
+        return treeEdges;
+    }
+
+    // Componentes conexas (vértices 1..n)
+    public int componentCount() {
+        return n - treeEdges;
+    }
+
+    public int edgeIdLimit() {
+        return edgeCount;
+    }
+
+    public boolean isAlive(int id) {
+        return alive[id];
+    }
+
+    public boolean isTreeEdge(int id) {
+        return alive[id] && inTree[id];
+    }
+
+    public int edgeU(int id) { return eu[id]; }
+    public int edgeV(int id) { return ev[id]; }
+    public int edgeWeight(int id) { return ew[id]; }
+
+    // Índice de uma aresta viva entre u e v (a de menor peso), ou -1
+    public int findEdge(int u, int v) {
+        IntList inc = incident[u];
+        int best = -1;
+        for (int i = 0; i < inc.size; i++) {
+            int id = inc.data[i];
+            if (eu[id] + ev[id] - u == v && (best < 0 || ew[id] < ew[best])) best = id;
+        }
+        return best;
+    }
+
+    public int[] treeEdgeIds() {
+        int[] ids = new int[treeEdges];
+        int k = 0;
+        for (int id = 0; id < edgeCount; id++) if (alive[id] && inTree[id]) ids[k++] = id;
+        return ids;
+    }
+
+    // Insere a aresta (u, v, w); devolve seu índice
+    public int addEdge(int u, int v, int w) {
+        if (w < 0) throw new IllegalArgumentException("peso negativo: " + w);
+        int id = newEdge(u, v, w);
+        offerNonTree(id);
+        return id;
+    }
+
+    public void removeEdge(int id) {
+        if (!alive[id]) return;
+        alive[id] = false;
+        incident[eu[id]].remove(id);
+        if (eu[id] != ev[id]) incident[ev[id]].remove(id);
+        if (inTree[id]) {
+            cutFromTree(id);
+            replace(eu[id], ev[id]);
+        }
+    }
+
+    public void changeWeight(int id, int w) {
+        if (w < 0) throw new IllegalArgumentException("peso negativo: " + w);
+        if (!alive[id]) throw new IllegalArgumentException("aresta removida: " + id);
+        int old = ew[id];
+        if (w == old) return;
+        if (inTree[id]) {
+            int x = n + 1 + id;
+            access(x);
+            val[x] = w;
+            pushUp(x);
+            ew[id] = w;
+            cost += w - old;
+            if (w > old) { // pode haver substituta mais leve cruzando o mesmo corte
+                cutFromTree(id);
+                replace(eu[id], ev[id]);
+            }
+        } else {
+            ew[id] = w;
+            if (w < old) offerNonTree(id);
+        }
+    }
+
+    // Aresta fora da árvore: entra se ligar componentes ou for mais leve que o máximo do ciclo
+    private void offerNonTree(int id) {
+        int u = eu[id], v = ev[id];
+        if (u == v) return;
+        if (findRoot(u) != findRoot(v)) {
+            addToTree(id);
+            return;
+        }
+        int heaviest = pathMax(u, v) - (n + 1);
+        if (heaviest >= 0 && ew[heaviest] > ew[id]) {
+            cutFromTree(heaviest);
+            addToTree(id);
+        }
+    }
+
+    // Depois de cortar a árvore entre a e b, religa com a aresta mais leve que cruza o corte
+    private void replace(int a, int b) {
+        if (++stamp == 0) {
+            Arrays.fill(markA, 0);
+            Arrays.fill(markB, 0);
+            stamp = 1;
+        }
+        // BFS alternada pelos dois lados; o primeiro a se esgotar é o menor, e tanto a BFS
+        // quanto a varredura abaixo são proporcionais a ele (ver o custo no topo da classe)
+        int headA = 0, tailA = 0, headB = 0, tailB = 0;
+        queueA[tailA++] = a;
+        markA[a] = stamp;
+        queueB[tailB++] = b;
+        markB[b] = stamp;
+        int[] side, mark;
+        int sideSize;
+        while (true) {
+            if (headA == tailA) { side = queueA; mark = markA; sideSize = tailA; break; }
+            if (headB == tailB) { side = queueB; mark = markB; sideSize = tailB; break; }
+            tailA = expand(queueA[headA++], queueA, tailA, markA);
+            tailB = expand(queueB[headB++], queueB, tailB, markB);
+        }
+        int best = -1;
+        for (int k = 0; k < sideSize; k++) {
+            IntList inc = incident[side[k]];
+            for (int i = 0; i < inc.size; i++) {
+                int id = inc.data[i];
+                if (inTree[id]) continue;
+                int other = eu[id] + ev[id] - side[k];
+                if (mark[other] == stamp) continue;
+                if (best < 0 || ew[id] < ew[best]) best = id;
+            }
+        }
+        if (best >= 0) addToTree(best);
+    }
+
+    private int expand(int u, int[] queue, int tail, int[] mark) {
+        IntList adj = treeAdj[u];
+        for (int i = 0; i < adj.size; i++) {
+            int id = adj.data[i];
+            int x = eu[id] + ev[id] - u;
+            if (mark[x] != stamp) {
+                mark[x] = stamp;
+                queue[tail++] = x;
+            }
+        }
+        return tail;
+    }
+
+    private int newEdge(int u, int v, int w) {
+        if (u < 1 || u > n || v < 1 || v > n) throw new IllegalArgumentException("vértice fora do intervalo: " + u + "-" + v);
+        if (edgeCount == eu.length) grow();
+        int id = edgeCount++;
+        eu[id] = u;
+        ev[id] = v;
+        ew[id] = w;
+        alive[id] = true;
+        incident[u].add(id);
+        if (u != v) incident[v].add(id);
+        return id;
+    }
+
+    private void addToTree(int id) {
+        int x = n + 1 + id;
+        initNode(x, ew[id]);
+        link(eu[id], x);
+        link(x, ev[id]);
+        inTree[id] = true;
+        treeAdj[eu[id]].add(id);
+        treeAdj[ev[id]].add(id);
+        cost += ew[id];
+        treeEdges++;
+    }
+
+    private void cutFromTree(int id) {
+        int x = n + 1 + id;
+        cut(eu[id], x);
+        cut(x, ev[id]);
+        inTree[id] = false;
+        treeAdj[eu[id]].remove(id);
+        treeAdj[ev[id]].remove(id);
+        cost -= ew[id];
+        treeEdges--;
+    }
+
+    private void grow() {
+        int cap = eu.length * 2;
+        eu = Arrays.copyOf(eu, cap);
+        ev = Arrays.copyOf(ev, cap);
+        ew = Arrays.copyOf(ew, cap);
+        alive = Arrays.copyOf(alive, cap);
+        inTree = Arrays.copyOf(inTree, cap);
+        int old = ch0.length, nodes = n + 1 + cap;
+        ch0 = Arrays.copyOf(ch0, nodes);
+        ch1 = Arrays.copyOf(ch1, nodes);
+        par = Arrays.copyOf(par, nodes);
+        mx = Arrays.copyOf(mx, nodes);
+        val = Arrays.copyOf(val, nodes);
+        rev = Arrays.copyOf(rev, nodes);
+        for (int x = old; x < nodes; x++) initNode(x, -1);
+    }
+
+    // ---------------- link-cut tree ----------------
+
+    private void initNode(int x, long v) {
+        ch0[x] = ch1[x] = par[x] = NIL;
+        mx[x] = x;
+        val[x] = v;
+        rev[x] = false;
+    }
+
+    private boolean isSplayRoot(int x) {
+        int p = par[x];
+        return p == NIL || (ch0[p] != x && ch1[p] != x);
+    }
+
+    private void pushUp(int x) {
+        int m = x;
+        int l = ch0[x], r = ch1[x];
+        if (l != NIL && val[mx[l]] > val[m]) m = mx[l];
+        if (r != NIL && val[mx[r]] > val[m]) m = mx[r];
+        mx[x] = m;
+    }
+
+    private void pushDown(int x) {
+        if (!rev[x]) return;
+        int l = ch0[x], r = ch1[x];
+        ch0[x] = r;
+        ch1[x] = l;
+        if (l != NIL) rev[l] = !rev[l];
+        if (r != NIL) rev[r] = !rev[r];
+        rev[x] = false;
+    }
+
+    private void rotate(int x) {
+        int p = par[x], g = par[p];
+        boolean pRoot = isSplayRoot(p);
+        if (ch0[p] == x) {
+            int b = ch1[x];
+            ch0[p] = b;
+            if (b != NIL) par[b] = p;
+            ch1[x] = p;
+        } else {
+            int b = ch0[x];
+            ch1[p] = b;
+            if (b != NIL) par[b] = p;
+            ch0[x] = p;
+        }
+        par[p] = x;
+        par[x] = g;
+        if (!pRoot) {
+            if (ch0[g] == p) ch0[g] = x;
+            else ch1[g] = x;
+        }
+        pushUp(p);
+        pushUp(x);
+    }
+
+    private void splay(int x) {
+        // propaga as inversões pendentes do topo da árvore splay até x
+        int top = 0;
+        for (int y = x; ; y = par[y]) {
+            if (top == splayPath.length) splayPath = Arrays.copyOf(splayPath, top * 2);
+            splayPath[top++] = y;
+            if (isSplayRoot(y)) break;
+        }
+        while (top > 0) pushDown(splayPath[--top]);
+        while (!isSplayRoot(x)) {
+            int p = par[x];
+            if (!isSplayRoot(p)) {
+                int g = par[p];
+                boolean zigZig = (ch0[g] == p) == (ch0[p] == x);
+                rotate(zigZig ? p : x);
+            }
+            rotate(x);
+        }
+    }
+
+    private void access(int x) {
+        int last = NIL;
+        for (int y = x; y != NIL; y = par[y]) {
+            splay(y);
+            ch1[y] = last;
+            pushUp(y);
+            last = y;
+        }
+        splay(x);
+    }
+
+    private void makeRoot(int x) {
+        access(x);
+        rev[x] = !rev[x];
+    }
+
+    private int findRoot(int x) {
+        access(x);
+        pushDown(x);
+        while (ch0[x] != NIL) {
+            x = ch0[x];
+            pushDown(x);
+        }
+        splay(x);
+        return x;
+    }
+
+    private void link(int x, int y) {
+        makeRoot(x);
+        par[x] = y;
+    }
+
+    private void cut(int x, int y) {
+        makeRoot(x);
+        access(y);
+        // x é agora o filho esquerdo de y, sem filho direito
+        ch0[y] = NIL;
+        par[x] = NIL;
+        pushUp(y);
+    }
+
+    // Nó de maior valor no caminho x-y (x e y conectados)
+    private int pathMax(int x, int y) {
+        makeRoot(x);
+        access(y);
+        return mx[y];
+    }
+
+    // Lista de inteiros com remoção por troca com o último
+    private static final class IntList {
+        int[] data = new int[4];
+        int size;
+
+        void add(int v) {
+            if (size == data.length) data = Arrays.copyOf(data, size * 2);
+            data[size++] = v;
+        }
+
+        void remove(int v) {
+            for (int i = 0; i < size; i++) {
+                if (data[i] == v) {
+                    data[i] = data[--size];
+                    return;
+                }
+            }
+        }
+    }
+}
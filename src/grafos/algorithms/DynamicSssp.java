@@ -0,0 +1,296 @@
+package grafos.algorithms;
+
+import grafos.model.CsrGraph;
+
+import java.util.Arrays;
+
+// Caminhos mínimos de fonte única mantidos sob alterações de arcos (estilo
+// Ramalingam–Reps). Guarda distâncias e árvore de caminhos mínimos (pai de cada
+// vértice) e aplica lotes de aumentos, reduções, inserções e remoções de arcos:
+//  1) arcos da árvore que ficaram mais longos ou sumiram desligam sua subárvore, que
+//     é zerada e reabastecida a partir dos vizinhos de entrada não afetados;
+//  2) arcos que encurtaram ou surgiram semeiam as melhorias diretamente;
+//  3) um único Dijkstra a partir dessas sementes propaga o resto.
+// O trabalho é proporcional aos vértices afetados e seus arcos, não ao grafo inteiro.
+// Arcos paralelos são fundidos (fica o menor peso), o que não altera distâncias.
+public final class DynamicSssp {
+    private static final long INF = Long.MAX_VALUE;
+    private static final int REMOVED = -1;
+
+    private final int n;
+    private final int source;
+    // adjacência mutável: arcos de saída e de entrada de cada vértice
+    private final int[][] outTo, outW, inFrom, inW;
+    private final int[] outCount, inCount;
+
+    private final long[] dist;
+    private final int[] parent;
+    private final IndexedDaryHeap heap;
+    private final int[] mark; // vértice afetado no lote atual quando mark[v] == epoch
+    private final int[] stack;
+    private int epoch;
+    private int lastSettled;
+
+    // Lote de alterações de arcos; aplicado de uma vez por apply()
+    public static final class Batch {
+        int size;
+        int[] from = new int[8], to = new int[8], weight = new int[8];
+
+        // Insere o arco (u, v) ou troca seu peso
+        public Batch set(int u, int v, int w) {
+            if (w < 0) throw new IllegalArgumentException("peso negativo: " + w);
+            return add(u, v, w);
+        }
+
+        public Batch remove(int u, int v) {
+            return add(u, v, REMOVED);
+        }
+
+        public int size() {
+            return size;
+        }
+
+        private Batch add(int u, int v, int w) {
+            if (size == from.length) {
+                from = Arrays.copyOf(from, size * 2);
+                to = Arrays.copyOf(to, size * 2);
+                weight = Arrays.copyOf(weight, size * 2);
+            }
+            from[size] = u;
+            to[size] = v;
+            weight[size] = w;
+            size++;
+            return this;
+        }
+    }
+
+    public DynamicSssp(CsrGraph g, int source) {
+        this.n = g.n;
+        this.source = source;
+        outTo = new int[n + 1][];
+        outW = new int[n + 1][];
+        inFrom = new int[n + 1][];
+        inW = new int[n + 1][];
+        outCount = new int[n + 1];
+        inCount = new int[n + 1];
+        for (int u = 0; u <= n; u++) {
+            int deg = g.degree(u);
+            outTo[u] = new int[Math.max(2, deg)];
+            outW[u] = new int[Math.max(2, deg)];
+        }
+        int[] inDeg = new int[n + 1];
+        for (int i = 0; i < g.arcCount(); i++) inDeg[g.targets[i]]++;
+        for (int v = 0; v <= n; v++) {
+            inFrom[v] = new int[Math.max(2, inDeg[v])];
+            inW[v] = new int[Math.max(2, inDeg[v])];
+        }
+        for (int u = 0; u <= n; u++) {
+            for (int i = g.offsets[u], end = g.offsets[u + 1]; i < end; i++) setArc(u, g.targets[i], g.weights[i], true);
+        }
+
+        dist = new long[n + 1];
+        parent = new int[n + 1];
+        heap = new IndexedDaryHeap(n + 1, DaryHeapDijkstra.DEFAULT_ARITY);
+        mark = new int[n + 1];
+        stack = new int[n + 1];
+        Arrays.fill(dist, INF);
+        Arrays.fill(parent, -1);
+        dist[source] = 0;
+        heap.insert(source, 0);
+        propagate();
+    }
+
+    public int source() {
+        return source;
+    }
+
+    // Distâncias atuais (mesmo contrato de Dijkstra.dijkstra); não alterar o array
+    public long[] distances() {
+        return dist;
+    }
+
+    public long distance(int v) {
+        return dist[v];
+    }
+
+    // Pai de v na árvore de caminhos mínimos (-1 para a fonte e inalcançáveis)
+    public int parent(int v) {
+        return parent[v];
+    }
+
+    // Vértices retirados do heap na última atualização (medida do trabalho de reparo)
+    public int lastSettledCount() {
+        return lastSettled;
+    }
+
+    public PathResult pathTo(int target) {
+        if (dist[target] == INF) return PathResult.unreachable();
+        int len = 1;
+        for (int v = target; v != source; v = parent[v]) len++;
+        int[] path = new int[len];
+        for (int v = target, i = len - 1; i >= 0; v = parent[v], i--) path[i] = v;
+        return new PathResult(dist[target], path);
+    }
+
+    public int updateArc(int u, int v, int w) {
+        return apply(new Batch().set(u, v, w));
+    }
+
+    public int removeArc(int u, int v) {
+        return apply(new Batch().remove(u, v));
+    }
+
+    // Aplica o lote ao grafo e repara distâncias e árvore; devolve o número de
+    // vértices estabelecidos no reparo
+    public int apply(Batch b) {
+        for (int k = 0; k < b.size; k++) {
+            if (b.weight[k] == REMOVED) deleteArc(b.from[k], b.to[k]);
+            else setArc(b.from[k], b.to[k], b.weight[k], false);
+        }
+        if (++epoch == 0) { // estouro do contador: recomeça as marcas
+            Arrays.fill(mark, 0);
+            epoch = 1;
+        }
+
+        // 1) subárvores desligadas por arcos da árvore que pioraram ou sumiram
+        int top = 0;
+        for (int k = 0; k < b.size; k++) {
+            int u = b.from[k], v = b.to[k];
+            if (parent[v] != u || mark[v] == epoch) continue;
+            int w = arcWeight(u, v);
+            if (w == REMOVED || dist[u] + w > dist[v]) {
+                mark[v] = epoch;
+                stack[top++] = v;
+            }
+        }
+        int affectedEnd = 0;
+        while (affectedEnd < top) { // stack[0, top) acumula toda a região afetada
+            int u = stack[affectedEnd++];
+            int[] to = outTo[u];
+            for (int i = 0, c = outCount[u]; i < c; i++) {
+                int x = to[i];
+                if (parent[x] == u && mark[x] != epoch) {
+                    mark[x] = epoch;
+                    stack[top++] = x;
+                }
+            }
+        }
+        for (int i = 0; i < top; i++) {
+            int v = stack[i];
+            dist[v] = INF;
+            parent[v] = -1;
+        }
+        for (int i = 0; i < top; i++) {
+            int v = stack[i];
+            long best = INF;
+            int bestParent = -1;
+            int[] from = inFrom[v], w = inW[v];
+            for (int j = 0, c = inCount[v]; j < c; j++) {
+                int x = from[j];
+                if (mark[x] == epoch || dist[x] == INF) continue;
+                long d = dist[x] + w[j];
+                if (d < best) {
+                    best = d;
+                    bestParent = x;
+                }
+            }
+            if (bestParent >= 0) relax(v, best, bestParent);
+        }
+
+        // 2) arcos que encurtaram ou foram inseridos
+        for (int k = 0; k < b.size; k++) {
+            int u = b.from[k], v = b.to[k];
+            if (dist[u] == INF) continue;
+            int w = arcWeight(u, v);
+            if (w != REMOVED && dist[u] + w < dist[v]) relax(v, dist[u] + w, u);
+        }
+
+        // 3) propagação
+        return propagate();
+    }
+
+    // Arcos atuais em CSR (para conferência ou para alimentar outros algoritmos)
+    public CsrGraph toCsr() {
+        int m = 0;
+        for (int u = 0; u <= n; u++) m += outCount[u];
+        int[] from = new int[m], to = new int[m], w = new int[m];
+        int k = 0;
+        for (int u = 0; u <= n; u++) {
+            for (int i = 0; i < outCount[u]; i++, k++) {
+                from[k] = u;
+                to[k] = outTo[u][i];
+                w[k] = outW[u][i];
+            }
+        }
+        return CsrGraph.fromArcs(n, from, to, w, m);
+    }
+
+    private void relax(int v, long d, int p) {
+        dist[v] = d;
+        parent[v] = p;
+        heap.insertOrDecrease(v, d);
+    }
+
+    private int propagate() {
+        int settled = 0;
+        while (!heap.isEmpty()) {
+            int u = heap.pollMin();
+            settled++;
+            long du = dist[u];
+            int[] to = outTo[u], w = outW[u];
+            for (int i = 0, c = outCount[u]; i < c; i++) {
+                int x = to[i];
+                long nd = du + w[i];
+                if (nd < dist[x]) relax(x, nd, u);
+            }
+        }
+        lastSettled = settled;
+        return settled;
+    }
+
+    private int arcWeight(int u, int v) {
+        int[] to = outTo[u];
+        for (int i = 0, c = outCount[u]; i < c; i++) if (to[i] == v) return outW[u][i];
+        return REMOVED;
+    }
+
+    // Insere ou atualiza (u, v); com keepMin, um arco já existente só diminui (fusão de paralelos)
+    private void setArc(int u, int v, int w, boolean keepMin) {
+        int i = indexOf(outTo[u], outCount[u], v);
+        if (i >= 0) {
+            if (keepMin && outW[u][i] <= w) return;
+            outW[u][i] = w;
+            inW[v][indexOf(inFrom[v], inCount[v], u)] = w;
+            return;
+        }
+        if (outCount[u] == outTo[u].length) {
+            outTo[u] = Arrays.copyOf(outTo[u], outCount[u] * 2);
+            outW[u] = Arrays.copyOf(outW[u], outCount[u] * 2);
+        }
+        outTo[u][outCount[u]] = v;
+        outW[u][outCount[u]++] = w;
+        if (inCount[v] == inFrom[v].length) {
+            inFrom[v] = Arrays.copyOf(inFrom[v], inCount[v] * 2);
+            inW[v] = Arrays.copyOf(inW[v], inCount[v] * 2);
+        }
+        inFrom[v][inCount[v]] = u;
+        inW[v][inCount[v]++] = w;
+    }
+
+    private void deleteArc(int u, int v) {
+        int i = indexOf(outTo[u], outCount[u], v);
+        if (i < 0) return;
+        int last = --outCount[u];
+        outTo[u][i] = outTo[u][last];
+        outW[u][i] = outW[u][last];
+        int j = indexOf(inFrom[v], inCount[v], u);
+        last = --inCount[v];
+        inFrom[v][j] = inFrom[v][last];
+        inW[v][j] = inW[v][last];
+    }
+
+    private static int indexOf(int[] a, int count, int x) {
+        for (int i = 0; i < count; i++) if (a[i] == x) return i;
+        return -1;
+    }
+}
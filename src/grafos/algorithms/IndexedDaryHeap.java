@@ -0,0 +1,137 @@
+package grafos.algorithms;
+
+import java.util.Arrays;
+
+// Heap d-ário indexado sobre arrays primitivos: itens são inteiros em [0, capacity)
+// com chave long. Mantém a posição de cada item para permitir decrease-key sem
+// duplicar entradas, e não aloca nada após a construção.
+public final class IndexedDaryHeap {
+    private final int arity;
+    private final int[] heap;     // item em cada posição do heap
+    private final long[] heapKey; // chave em cada posição do heap (mesma ordem de heap)
+    private final int[] pos;      // posição de cada item no heap, -1 se ausente
+    private int size;
+
+    public IndexedDaryHeap(int capacity, int arity) {
+        if (arity < 2) throw new IllegalArgumentException("aridade deve ser >= 2");
+        this.arity = arity;
+        this.heap = new int[capacity];
+        this.heapKey = new long[capacity];
+        this.pos = new int[capacity];
+        Arrays.fill(pos, -1);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(int item) {
+        return pos[item] >= 0;
+    }
+
+    public long key(int item) {
+        return heapKey[pos[item]];
+    }
+
+    public int peekMin() {
+        return heap[0];
+    }
+
+    public long minKey() {
+        return heapKey[0];
+    }
+
+    public void insert(int item, long key) {
+        int i = size++;
+        heap[i] = item;
+        heapKey[i] = key;
+        pos[item] = i;
+        siftUp(i);
+    }
+
+    public void decreaseKey(int item, long key) {
+        int i = pos[item];
+        heapKey[i] = key;
+        siftUp(i);
+    }
+
+    // Altera a chave de um item presente, para mais ou para menos
+    public void changeKey(int item, long key) {
+        int i = pos[item];
+        long old = heapKey[i];
+        heapKey[i] = key;
+        if (key < old) siftUp(i);
+        else siftDown(i);
+    }
+
+    // Insere o item ou diminui sua chave, conforme já esteja no heap
+    public void insertOrDecrease(int item, long key) {
+        if (pos[item] >= 0) decreaseKey(item, key);
+        else insert(item, key);
+    }
+
+    public int pollMin() {
+        int min = heap[0];
+        pos[min] = -1;
+        int last = --size;
+        if (last > 0) {
+            heap[0] = heap[last];
+            heapKey[0] = heapKey[last];
+            pos[heap[0]] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    // Esvazia o heap em O(size), sem percorrer toda a capacidade
+    public void clear() {
+        for (int i = 0; i < size; i++) pos[heap[i]] = -1;
+        size = 0;
+    }
+
+    private void siftUp(int i) {
+        int item = heap[i];
+        long key = heapKey[i];
+        while (i > 0) {
+            int parent = (i - 1) / arity;
+            if (heapKey[parent] <= key) break;
+            heap[i] = heap[parent];
+            heapKey[i] = heapKey[parent];
+            pos[heap[i]] = i;
+            i = parent;
+        }
+        heap[i] = item;
+        heapKey[i] = key;
+        pos[item] = i;
+    }
+
+    private void siftDown(int i) {
+        int item = heap[i];
+        long key = heapKey[i];
+        while (true) {
+            int first = i * arity + 1;
+            if (first >= size) break;
+            int last = Math.min(first + arity, size);
+            int best = first;
+            long bestKey = heapKey[first];
+            for (int c = first + 1; c < last; c++) {
+                if (heapKey[c] < bestKey) {
+                    best = c;
+                    bestKey = heapKey[c];
+                }
+            }
+            if (bestKey >= key) break;
+            heap[i] = heap[best];
+            heapKey[i] = bestKey;
+            pos[heap[i]] = i;
+            i = best;
+        }
+        heap[i] = item;
+        heapKey[i] = key;
+        pos[item] = i;
+    }
+}
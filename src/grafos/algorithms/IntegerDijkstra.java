@@ -0,0 +1,81 @@
+package grafos.algorithms;
+
+import grafos.metrics.Counters;
+import grafos.model.CsrGraph;
+
+import java.util.Arrays;
+
+// Dijkstra com filas de prioridade monótonas para pesos inteiros (RadixHeap e
+// DialQueue), sobre a adjacência CSR. Entradas desatualizadas são descartadas ao
+// sair da fila comparando a chave com dist[u].
+public final class IntegerDijkstra {
+    // Acima deste peso máximo, a fila de Dial (um balde por unidade) dá lugar ao heap radix
+    public static final int DIAL_MAX_WEIGHT = 1 << 22;
+
+    private IntegerDijkstra() { }
+
+    public static long[] radixHeap(CsrGraph g, int source) {
+        long[] dist = newDistances(g, source);
+        int[] offsets = g.offsets, targets = g.targets, weights = g.weights;
+        RadixHeap heap = new RadixHeap();
+        heap.insert(source, 0);
+        long relaxed = 0, pushes = 1, stale = 0;
+        while (!heap.isEmpty()) {
+            int u = heap.pollMin();
+            long du = heap.lastKey();
+            if (du != dist[u]) { stale++; continue; }
+            relaxed += offsets[u + 1] - offsets[u];
+            for (int i = offsets[u], end = offsets[u + 1]; i < end; i++) {
+                int v = targets[i];
+                long nd = du + weights[i];
+                if (nd < dist[v]) {
+                    dist[v] = nd;
+                    heap.insert(v, nd);
+                    pushes++;
+                }
+            }
+        }
+        if (Counters.ENABLED) Counters.addSearch(relaxed, pushes, stale);
+        return dist;
+    }
+
+    public static long[] dial(CsrGraph g, int source) {
+        int maxW = maxWeight(g);
+        if (maxW > DIAL_MAX_WEIGHT) return radixHeap(g, source);
+        long[] dist = newDistances(g, source);
+        int[] offsets = g.offsets, targets = g.targets, weights = g.weights;
+        DialQueue queue = new DialQueue(maxW);
+        queue.insert(source, 0);
+        long relaxed = 0, pushes = 1, stale = 0;
+        while (!queue.isEmpty()) {
+            int u = queue.pollMin();
+            long du = queue.lastKey();
+            if (du != dist[u]) { stale++; continue; }
+            relaxed += offsets[u + 1] - offsets[u];
+            for (int i = offsets[u], end = offsets[u + 1]; i < end; i++) {
+                int v = targets[i];
+                long nd = du + weights[i];
+                if (nd < dist[v]) {
+                    dist[v] = nd;
+                    queue.insert(v, nd);
+                    pushes++;
+                }
+            }
+        }
+        if (Counters.ENABLED) Counters.addSearch(relaxed, pushes, stale);
+        return dist;
+    }
+
+    static int maxWeight(CsrGraph g) {
+        int max = 0;
+        for (int w : g.weights) if (w > max) max = w;
+        return max;
+    }
+
+    private static long[] newDistances(CsrGraph g, int source) {
+        long[] dist = new long[g.n + 1];
+        Arrays.fill(dist, Long.MAX_VALUE);
+        dist[source] = 0;
+        return dist;
+    }
+}
@@ -1,16 +1,48 @@
 package grafos.algorithms;
 
+import grafos.model.CsrGraph;
 import grafos.model.Edge;
 import grafos.model.Graph;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 public class KruskalMST {
 
+    // Implementações disponíveis; OBJECT_SORT é a versão original (Collections.sort sobre Edge)
+    public enum Engine {
+        OBJECT_SORT("sort"),
+        PACKED("packed"),
+        FILTER("filter");
+
+        public final String cliName;
+
+        Engine(String cliName) { this.cliName = cliName; }
+
+        public static Engine fromCliName(String name) {
+            for (Engine e : values()) {
+                if (e.cliName.equalsIgnoreCase(name)) return e;
+            }
+            throw new IllegalArgumentException("Motor de Kruskal desconhecido: " + name);
+        }
+    }
+
+    // Abaixo deste tamanho o filter-Kruskal ordena o trecho diretamente
+    private static final int FILTER_BASE = 1 << 14;
+    private static final int PIVOT_SAMPLE = 63;
+
+    public static long mstCost(Graph g, Engine engine) {
+        switch (engine) {
+            case PACKED: return mstCostPacked(g);
+            case FILTER: return mstCostFilter(g);
+            default: return mstCost(g);
+        }
+    }
+
     public static long mstCost(Graph g) {
-        List<Edge> edges = new ArrayList<>(g.edgesUndir);
+        List<Edge> edges = new ArrayList<>(g.edgesUndir());
         Collections.sort(edges);
         UnionFind uf = new UnionFind(g.n);
         long cost = 0;
@@ -24,4 +56,94 @@ public class KruskalMST {
         }
         return cost;
     }
+
+    // Arestas empacotadas como (peso << 32 | índice) num long[] ordenado com
+    // Arrays.parallelSort; empates saem na ordem original, como no Collections.sort
+    public static long mstCostPacked(Graph g) {
+        PackedEdges pe = new PackedEdges(g);
+        Arrays.parallelSort(pe.keys);
+        return pe.scan(0, pe.keys.length);
+    }
+
+    // Filter-Kruskal: particiona as arestas em leves/pesadas por um pivô, resolve as
+    // leves primeiro e descarta das pesadas as que já ligam a mesma componente antes
+    // de descer nelas; boa parte das arestas pesadas nunca chega a ser ordenada
+    public static long mstCostFilter(Graph g) {
+        PackedEdges pe = new PackedEdges(g);
+        return pe.filter(0, pe.keys.length);
+    }
+
+    private static final class PackedEdges {
+        final long[] keys;
+        final int[] from;
+        final int[] to;
+        final UnionFind uf;
+        final int target; // uniões necessárias para uma árvore geradora (n - 1)
+        int unions;
+
+        PackedEdges(Graph g) {
+            CsrGraph edges = g.undirEdges();
+            int m = edges.arcCount();
+            int[] weights = edges.weights;
+            keys = new long[m];
+            from = edges.sources();
+            to = edges.targets;
+            for (int i = 0; i < m; i++) keys[i] = ((long) weights[i] << 32) | i;
+            uf = new UnionFind(g.n);
+            target = Math.max(0, g.n - 1);
+        }
+
+        // Percorre keys[lo, hi) já ordenado
+        long scan(int lo, int hi) {
+            long cost = 0;
+            for (int k = lo; k < hi && unions < target; k++) {
+                int i = (int) keys[k];
+                int ru = uf.find(from[i]);
+                int rv = uf.find(to[i]);
+                if (ru != rv) {
+                    uf.union(ru, rv);
+                    unions++;
+                    cost += keys[k] >>> 32;
+                }
+            }
+            return cost;
+        }
+
+        long filter(int lo, int hi) {
+            if (hi - lo <= FILTER_BASE) {
+                Arrays.sort(keys, lo, hi);
+                return scan(lo, hi);
+            }
+            long pivot = pivotWeight(lo, hi);
+            int mid = lo;
+            for (int k = lo; k < hi; k++) {
+                long key = keys[k];
+                if ((key >>> 32) <= pivot) {
+                    keys[k] = keys[mid];
+                    keys[mid++] = key;
+                }
+            }
+            if (mid == hi) { // pivô não separou (muitos pesos iguais)
+                Arrays.parallelSort(keys, lo, hi);
+                return scan(lo, hi);
+            }
+            long cost = filter(lo, mid);
+            if (unions == target) return cost;
+            int kept = mid;
+            for (int k = mid; k < hi; k++) {
+                int i = (int) keys[k];
+                if (uf.find(from[i]) != uf.find(to[i])) keys[kept++] = keys[k];
+            }
+            return cost + filter(mid, kept);
+        }
+
+        // Mediana de uma amostra espaçada dos pesos em [lo, hi)
+        private long pivotWeight(int lo, int hi) {
+            long[] sample = new long[PIVOT_SAMPLE];
+            long step = (hi - lo) / PIVOT_SAMPLE;
+            for (int s = 0; s < PIVOT_SAMPLE; s++) sample[s] = keys[(int) (lo + s * step)] >>> 32;
+            Arrays.sort(sample);
+            return sample[PIVOT_SAMPLE / 2];
+        }
+    }
 }
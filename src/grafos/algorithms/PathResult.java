@@ -0,0 +1,22 @@
+package grafos.algorithms;
+
+// Resultado de uma consulta origem-destino: distância e vértices do caminho (origem ... destino)
+public final class PathResult {
+    private static final int[] NO_PATH = new int[0];
+
+    public final long distance; // Long.MAX_VALUE se o destino é inalcançável
+    public final int[] path;    // vazio se o destino é inalcançável
+
+    public PathResult(long distance, int[] path) {
+        this.distance = distance;
+        this.path = path;
+    }
+
+    public static PathResult unreachable() {
+        return new PathResult(Long.MAX_VALUE, NO_PATH);
+    }
+
+    public boolean isReachable() {
+        return distance < Long.MAX_VALUE;
+    }
+}
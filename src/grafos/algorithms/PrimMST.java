@@ -1,13 +1,46 @@
 package grafos.algorithms;
 
-import grafos.model.Edge;
+import grafos.metrics.Counters;
+import grafos.model.CsrGraph;
 import grafos.model.Graph;
 
+import java.util.Arrays;
 import java.util.PriorityQueue;
 
 public class PrimMST {
 
+    // Implementações disponíveis; PRIORITY_QUEUE é a versão original (lazy, com java.util.PriorityQueue)
+    public enum Engine {
+        PRIORITY_QUEUE("pq"),
+        DIAL("dial"),
+        EAGER("eager");
+
+        public final String cliName;
+
+        Engine(String cliName) { this.cliName = cliName; }
+
+        public static Engine fromCliName(String name) {
+            for (Engine e : values()) {
+                if (e.cliName.equalsIgnoreCase(name)) return e;
+            }
+            throw new IllegalArgumentException("Motor de Prim desconhecido: " + name);
+        }
+    }
+
+    public static long mstCost(Graph g, int start, Engine engine) {
+        switch (engine) {
+            case DIAL: return mstCostDial(g.undirCsr(), start);
+            case EAGER: return forest(g.undirCsr(), start).cost;
+            default: return mstCost(g, start);
+        }
+    }
+
     public static long mstCost(Graph g, int start) {
+        return mstCost(g.undirCsr(), start);
+    }
+
+    // Versão original (PriorityQueue de arestas candidatas) sobre a adjacência não dirigida em CSR
+    public static long mstCost(CsrGraph g, int start) {
         int n = g.n;
         boolean[] inMST = new boolean[n + 1];
 
@@ -16,20 +49,105 @@ public class PrimMST {
             @Override public int compareTo(Node o) { return Integer.compare(this.w, o.w); }
         }
 
+        int[] offsets = g.offsets, targets = g.targets, weights = g.weights;
         PriorityQueue<Node> pq = new PriorityQueue<>();
         pq.add(new Node(start, 0));
         long cost = 0;
+        long relaxed = 0, pushes = 1, stale = 0;
 
         while (!pq.isEmpty()) {
             Node cur = pq.poll();
             int u = cur.v;
-            if (inMST[u]) continue;
+            if (inMST[u]) { stale++; continue; }
             inMST[u] = true;
             cost += cur.w;
-            for (Edge e : g.adjUndir.get(u)) {
-                if (!inMST[e.v]) pq.add(new Node(e.v, e.w));
+            relaxed += offsets[u + 1] - offsets[u];
+            for (int i = offsets[u], end = offsets[u + 1]; i < end; i++) {
+                int v = targets[i];
+                if (!inMST[v]) { pq.add(new Node(v, weights[i])); pushes++; }
+            }
+        }
+        if (Counters.ENABLED) Counters.addSearch(relaxed, pushes, stale);
+        return cost;
+    }
+
+    // Prim lazy com fila de baldes indexada pelo peso do arco (as chaves ficam em
+    // [0, peso máximo]); para pesos máximos muito grandes usa a versão com PriorityQueue
+    public static long mstCostDial(CsrGraph g, int start) {
+        int maxW = IntegerDijkstra.maxWeight(g);
+        if (maxW > IntegerDijkstra.DIAL_MAX_WEIGHT) return mstCost(g, start);
+        boolean[] inMST = new boolean[g.n + 1];
+        int[] offsets = g.offsets, targets = g.targets, weights = g.weights;
+        DialQueue queue = new DialQueue(maxW);
+        queue.insert(start, 0);
+        long cost = 0;
+        long relaxed = 0, pushes = 1, stale = 0;
+
+        while (!queue.isEmpty()) {
+            int u = queue.pollMin();
+            if (inMST[u]) { stale++; continue; }
+            inMST[u] = true;
+            cost += queue.lastKey();
+            relaxed += offsets[u + 1] - offsets[u];
+            for (int i = offsets[u], end = offsets[u + 1]; i < end; i++) {
+                int v = targets[i];
+                if (!inMST[v]) { queue.insert(v, weights[i]); pushes++; }
             }
         }
+        if (Counters.ENABLED) Counters.addSearch(relaxed, pushes, stale);
         return cost;
     }
+
+    // Prim eager: uma única chave por vértice (peso da aresta mais leve até a árvore)
+    // num IndexedDaryHeap com decrease-key. Começa em start e recomeça dos vértices
+    // ainda não visitados, produzindo a floresta geradora mínima de todo o grafo
+    public static SpanningForest forest(CsrGraph g, int start) {
+        int n = g.n;
+        int[] offsets = g.offsets, targets = g.targets, weights = g.weights;
+        boolean[] inMST = new boolean[n + 1];
+        IndexedDaryHeap heap = new IndexedDaryHeap(n + 1, DaryHeapDijkstra.DEFAULT_ARITY);
+        int[] roots = new int[16];
+        int[] sizes = new int[16];
+        long[] costs = new long[16];
+        int components = 0;
+        long total = 0;
+        long relaxed = 0, pushes = 0;
+
+        for (int k = 0; k <= n; k++) {
+            int root = k == 0 ? start : k; // start primeiro, depois os demais em ordem
+            if (root < 1 || root > n || inMST[root]) continue;
+            long cost = 0;
+            int size = 0;
+            heap.insert(root, 0);
+            pushes++;
+            while (!heap.isEmpty()) {
+                long w = heap.minKey();
+                int u = heap.pollMin();
+                inMST[u] = true;
+                cost += w;
+                size++;
+                relaxed += offsets[u + 1] - offsets[u];
+                for (int i = offsets[u], end = offsets[u + 1]; i < end; i++) {
+                    int v = targets[i];
+                    if (inMST[v]) continue;
+                    int wv = weights[i];
+                    if (!heap.contains(v)) { heap.insert(v, wv); pushes++; }
+                    else if (wv < heap.key(v)) { heap.decreaseKey(v, wv); pushes++; }
+                }
+            }
+            if (components == roots.length) {
+                roots = Arrays.copyOf(roots, components * 2);
+                sizes = Arrays.copyOf(sizes, components * 2);
+                costs = Arrays.copyOf(costs, components * 2);
+            }
+            roots[components] = root;
+            sizes[components] = size;
+            costs[components] = cost;
+            components++;
+            total += cost;
+        }
+        if (Counters.ENABLED) Counters.addSearch(relaxed, pushes, 0);
+        return new SpanningForest(total, Arrays.copyOf(roots, components),
+                Arrays.copyOf(sizes, components), Arrays.copyOf(costs, components));
+    }
 }
@@ -0,0 +1,83 @@
+package grafos.algorithms;
+
+import java.util.Arrays;
+
+// Heap radix monótono para chaves long não negativas: cada chave fica no balde
+// dado pelo bit mais alto em que difere da última chave retirada, de modo que
+// retirar o mínimo só redistribui um balde. Exige que toda chave inserida seja
+// >= à última retirada (vale no Dijkstra com pesos não negativos). Não há
+// decrease-key: reinserções deixam entradas antigas, que o chamador descarta.
+public final class RadixHeap {
+    private static final int BUCKETS = 65;
+
+    private final int[][] items = new int[BUCKETS][];
+    private final long[][] keys = new long[BUCKETS][];
+    private final int[] counts = new int[BUCKETS];
+    private long last;
+    private int size;
+
+    public RadixHeap() {
+        for (int b = 0; b < BUCKETS; b++) {
+            items[b] = new int[8];
+            keys[b] = new long[8];
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Última chave retirada (limite inferior de todas as chaves presentes)
+    public long lastKey() {
+        return last;
+    }
+
+    public void insert(int item, long key) {
+        if (key < last) throw new IllegalArgumentException("chave " + key + " menor que a última retirada " + last);
+        push(bucketOf(key), item, key);
+        size++;
+    }
+
+    // Retira um item de chave mínima; a chave fica disponível em lastKey()
+    public int pollMin() {
+        if (counts[0] == 0) {
+            int b = 1;
+            while (counts[b] == 0) b++;
+            int[] bi = items[b];
+            long[] bk = keys[b];
+            int c = counts[b];
+            long min = bk[0];
+            for (int i = 1; i < c; i++) if (bk[i] < min) min = bk[i];
+            last = min;
+            counts[b] = 0;
+            for (int i = 0; i < c; i++) push(bucketOf(bk[i]), bi[i], bk[i]);
+        }
+        size--;
+        return items[0][--counts[0]];
+    }
+
+    public void clear() {
+        Arrays.fill(counts, 0);
+        size = 0;
+        last = 0;
+    }
+
+    private int bucketOf(long key) {
+        return key == last ? 0 : 64 - Long.numberOfLeadingZeros(key ^ last);
+    }
+
+    private void push(int b, int item, long key) {
+        int c = counts[b];
+        if (c == items[b].length) {
+            items[b] = Arrays.copyOf(items[b], c * 2);
+            keys[b] = Arrays.copyOf(keys[b], c * 2);
+        }
+        items[b][c] = item;
+        keys[b][c] = key;
+        counts[b] = c + 1;
+    }
+}
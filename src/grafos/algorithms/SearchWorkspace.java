@@ -0,0 +1,170 @@
+package grafos.algorithms;
+
+import grafos.model.CsrGraph;
+import grafos.model.Graph;
+
+import java.util.Arrays;
+
+// Área de trabalho reutilizável para buscas de Dijkstra limitadas. Cada vértice guarda
+// o número da busca em que foi tocado (version); valores de outra busca valem como
+// "infinito", então uma nova busca não limpa nada e custa só o que ela visita.
+// A busca pode parar ao estabelecer todos os destinos, ao passar de um raio de
+// distância ou ao atingir um orçamento de vértices estabelecidos.
+// Uma instância por thread.
+public final class SearchWorkspace {
+    private static final long INF = Long.MAX_VALUE;
+
+    public enum StopReason { EXHAUSTED, TARGETS, RADIUS, BUDGET }
+
+    // Limites opcionais de uma busca
+    public static final class Limits {
+        int[] targets;
+        long radius = INF;
+        int maxSettled = Integer.MAX_VALUE;
+
+        // Para quando todos estes vértices estiverem estabelecidos
+        public Limits targets(int... targets) {
+            this.targets = targets;
+            return this;
+        }
+
+        // Estabelece só vértices com distância <= radius
+        public Limits radius(long radius) {
+            this.radius = radius;
+            return this;
+        }
+
+        public Limits maxSettled(int maxSettled) {
+            this.maxSettled = maxSettled;
+            return this;
+        }
+    }
+
+    private static final Limits NO_LIMITS = new Limits();
+
+    private final CsrGraph g;
+    private final long[] dist;
+    private final int[] pred;
+    private final int[] version;        // busca em que dist/pred do vértice foram escritos
+    private final int[] settledVersion; // busca em que o vértice foi estabelecido
+    private final int[] targetVersion;  // busca em que o vértice é destino pendente
+    private final int[] settledOrder;   // vértices estabelecidos, em ordem de distância
+    private final IndexedDaryHeap heap;
+    private int current;
+    private int settledCount;
+    private int source = -1;
+    private StopReason stopReason = StopReason.EXHAUSTED;
+
+    public SearchWorkspace(Graph g) {
+        this(g.dirCsr());
+    }
+
+    public SearchWorkspace(CsrGraph g) {
+        this.g = g;
+        int size = g.n + 1;
+        dist = new long[size];
+        pred = new int[size];
+        version = new int[size];
+        settledVersion = new int[size];
+        targetVersion = new int[size];
+        settledOrder = new int[size];
+        heap = new IndexedDaryHeap(size, DaryHeapDijkstra.DEFAULT_ARITY);
+    }
+
+    public CsrGraph graph() {
+        return g;
+    }
+
+    public int search(int source) {
+        return search(source, NO_LIMITS);
+    }
+
+    // Executa a busca; devolve o número de vértices estabelecidos
+    public int search(int source, Limits limits) {
+        if (++current == 0) { // estouro do contador: limpa uma vez e recomeça
+            Arrays.fill(version, 0);
+            Arrays.fill(settledVersion, 0);
+            Arrays.fill(targetVersion, 0);
+            current = 1;
+        }
+        heap.clear();
+        settledCount = 0;
+        this.source = source;
+
+        int pendingTargets = 0;
+        if (limits.targets != null) {
+            for (int t : limits.targets) {
+                if (targetVersion[t] != current) {
+                    targetVersion[t] = current;
+                    pendingTargets++;
+                }
+            }
+        }
+
+        int[] offsets = g.offsets, targets = g.targets, weights = g.weights;
+        touch(source, 0, -1);
+        stopReason = StopReason.EXHAUSTED;
+        while (!heap.isEmpty()) {
+            if (heap.minKey() > limits.radius) {
+                stopReason = StopReason.RADIUS;
+                break;
+            }
+            if (settledCount >= limits.maxSettled) {
+                stopReason = StopReason.BUDGET;
+                break;
+            }
+            int u = heap.pollMin();
+            settledVersion[u] = current;
+            settledOrder[settledCount++] = u;
+            if (targetVersion[u] == current && --pendingTargets == 0) {
+                stopReason = StopReason.TARGETS;
+                break;
+            }
+            long du = dist[u];
+            for (int i = offsets[u], end = offsets[u + 1]; i < end; i++) {
+                int v = targets[i];
+                long nd = du + weights[i];
+                if (version[v] != current || nd < dist[v]) touch(v, nd, u);
+            }
+        }
+        return settledCount;
+    }
+
+    public StopReason stopReason() {
+        return stopReason;
+    }
+
+    public int settledCount() {
+        return settledCount;
+    }
+
+    // i-ésimo vértice estabelecido na última busca (ordem crescente de distância)
+    public int settledVertex(int i) {
+        return settledOrder[i];
+    }
+
+    public boolean isSettled(int v) {
+        return settledVersion[v] == current;
+    }
+
+    // Distância final se v foi estabelecido, estimativa se só foi alcançado, Long.MAX_VALUE se não tocado
+    public long distance(int v) {
+        return version[v] == current ? dist[v] : INF;
+    }
+
+    public PathResult pathTo(int target) {
+        if (!isSettled(target)) return PathResult.unreachable();
+        int len = 1;
+        for (int v = target; v != source; v = pred[v]) len++;
+        int[] path = new int[len];
+        for (int v = target, i = len - 1; i >= 0; v = pred[v], i--) path[i] = v;
+        return new PathResult(dist[target], path);
+    }
+
+    private void touch(int v, long d, int p) {
+        version[v] = current;
+        dist[v] = d;
+        pred[v] = p;
+        heap.insertOrDecrease(v, d);
+    }
+}
@@ -0,0 +1,144 @@
+package grafos.algorithms;
+
+import grafos.model.CsrGraph;
+import grafos.model.Graph;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+
+// Cache LRU de árvores de caminhos mínimos (ShortestPathTree) por (grafo, fonte).
+// O grafo é identificado pela instância do CSR dirigido, que o Graph monta uma
+// única vez. O limite é em bytes estimados dos arrays: ao passar dele, as árvores
+// usadas há mais tempo saem. Árvores maiores que o limite são
+// devolvidas mas não guardadas. Seguro para várias threads; duas faltas
+// simultâneas para a mesma chave calculam a árvore duas vezes (a última fica).
+public final class ShortestPathCache {
+
+    private static final class Key {
+        final CsrGraph graph;
+        final int source;
+
+        Key(CsrGraph graph, int source) {
+            this.graph = graph;
+            this.source = source;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key k && k.graph == graph && k.source == source;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(graph) * 31 + source;
+        }
+    }
+
+    private final long maxBytes;
+    private final LinkedHashMap<Key, ShortestPathTree> map = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+    private long hits, misses, evictions;
+
+    public ShortestPathCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    // Árvore de 'source' no grafo dirigido de g; na falta, calcula com o motor dado. O
+    // motor não faz parte da chave: uma árvore guardada atende qualquer motor (as
+    // distâncias são as mesmas), então não use o cache para medir o tempo de um motor
+    public ShortestPathTree get(Graph g, int source, Dijkstra.Engine engine) {
+        CsrGraph csr = g.dirCsr();
+        ShortestPathTree e = lookup(csr, source);
+        if (e != null) return e;
+        return put(csr, Dijkstra.shortestPathTree(g, source, engine));
+    }
+
+    // Árvore de 'source' em g; na falta, calcula com o heap d-ário
+    public ShortestPathTree get(CsrGraph g, int source) {
+        ShortestPathTree e = lookup(g, source);
+        if (e != null) return e;
+        return put(g, DaryHeapDijkstra.shortestPathTree(g, source));
+    }
+
+    // Árvore de 'source' no grafo de 'workspace'; na falta, calcula reaproveitando o heap
+    // da instância (só os arrays da árvore guardada são alocados)
+    public ShortestPathTree get(DaryHeapDijkstra workspace, int source) {
+        CsrGraph g = workspace.graph();
+        ShortestPathTree e = lookup(g, source);
+        if (e != null) return e;
+        return put(g, workspace.tree(source));
+    }
+
+    // Árvore já guardada, ou null; não calcula nem entra nas contagens de acerto/falta
+    // (que medem só get, cujas faltas enchem o cache)
+    public synchronized ShortestPathTree peek(CsrGraph g, int source) {
+        return map.get(new Key(g, source));
+    }
+
+    private synchronized ShortestPathTree lookup(CsrGraph g, int source) {
+        ShortestPathTree e = map.get(new Key(g, source));
+        if (e != null) hits++;
+        else misses++;
+        return e;
+    }
+
+    private ShortestPathTree put(CsrGraph g, ShortestPathTree e) {
+        long size = e.bytes();
+        if (size > maxBytes) return e;
+        synchronized (this) {
+            ShortestPathTree old = map.put(new Key(g, e.source), e);
+            if (old != null) bytes -= old.bytes();
+            bytes += size;
+            Iterator<ShortestPathTree> it = map.values().iterator();
+            while (bytes > maxBytes && it.hasNext()) {
+                ShortestPathTree victim = it.next();
+                if (victim == e) continue;
+                it.remove();
+                bytes -= victim.bytes();
+                evictions++;
+            }
+        }
+        return e;
+    }
+
+    public synchronized void clear() {
+        map.clear();
+        bytes = 0;
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+
+    public synchronized long bytes() {
+        return bytes;
+    }
+
+    public long maxBytes() {
+        return maxBytes;
+    }
+
+    public synchronized long hits() {
+        return hits;
+    }
+
+    public synchronized long misses() {
+        return misses;
+    }
+
+    public synchronized long evictions() {
+        return evictions;
+    }
+
+    public synchronized double hitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format(Locale.ROOT, "%d acertos, %d faltas (%.1f%%), %d remoções, %d árvores, %.1f/%.1f MB",
+                hits, misses, hitRate() * 100, evictions, map.size(), bytes / 1e6, maxBytes / 1e6);
+    }
+}
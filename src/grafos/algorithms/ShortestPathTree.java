@@ -0,0 +1,132 @@
+package grafos.algorithms;
+
+import grafos.model.CsrGraph;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+// Árvore de caminhos mínimos de uma fonte: distâncias, predecessor de cada vértice
+// e a ordem em que os vértices alcançados foram estabelecidos (pais sempre antes dos
+// filhos). Essa ordem permite extrair caminhos, percorrer a árvore e calcular
+// agregados por subárvore em uma passada linear, sem nova busca.
+// Os arrays são compartilhados (ex.: pelo ShortestPathCache) e não devem ser alterados.
+public final class ShortestPathTree {
+    public final int source;
+    public final long[] dist;  // Long.MAX_VALUE para inalcançáveis
+    public final int[] pred;   // -1 para a fonte e inalcançáveis
+    private final int[] order; // vértices alcançados, pais antes dos filhos
+    private final int reached;
+
+    @FunctionalInterface
+    public interface Visitor {
+        // parent = -1 para a fonte
+        void visit(int vertex, int parent, long distance);
+    }
+
+    ShortestPathTree(int source, long[] dist, int[] pred, int[] order, int reached) {
+        this.source = source;
+        this.dist = dist;
+        this.pred = pred;
+        this.order = order;
+        this.reached = reached;
+    }
+
+    // Árvore a partir de distâncias já calculadas (motores que não registram
+    // predecessores): percorre, desde a fonte, só arcos justos (dist[u] + w == dist[v]).
+    // Cada vértice é descoberto uma vez, então o resultado é uma árvore mesmo com
+    // arcos de peso zero.
+    public static ShortestPathTree fromDistances(CsrGraph g, int source, long[] dist) {
+        int[] pred = new int[g.n + 1];
+        Arrays.fill(pred, -1);
+        boolean[] seen = new boolean[g.n + 1];
+        int[] order = new int[g.n + 1];
+        int head = 0, tail = 0;
+        order[tail++] = source;
+        seen[source] = true;
+        int[] offsets = g.offsets, targets = g.targets, weights = g.weights;
+        while (head < tail) {
+            int u = order[head++];
+            long du = dist[u];
+            for (int i = offsets[u], end = offsets[u + 1]; i < end; i++) {
+                int v = targets[i];
+                if (!seen[v] && du + weights[i] == dist[v]) {
+                    seen[v] = true;
+                    pred[v] = u;
+                    order[tail++] = v;
+                }
+            }
+        }
+        return new ShortestPathTree(source, dist, pred, order, tail);
+    }
+
+    public long distance(int v) {
+        return dist[v];
+    }
+
+    public int parent(int v) {
+        return pred[v];
+    }
+
+    public boolean isReachable(int v) {
+        return dist[v] != Long.MAX_VALUE;
+    }
+
+    public int reachedCount() {
+        return reached;
+    }
+
+    // i-ésimo vértice alcançado (0 = fonte)
+    public int vertexAt(int i) {
+        return order[i];
+    }
+
+    public PathResult pathTo(int target) {
+        if (dist[target] == Long.MAX_VALUE) return PathResult.unreachable();
+        int len = 1;
+        for (int v = target; v != source; v = pred[v]) len++;
+        int[] path = new int[len];
+        for (int v = target, i = len - 1; i >= 0; v = pred[v], i--) path[i] = v;
+        return new PathResult(dist[target], path);
+    }
+
+    // Vértices alcançados, pais antes dos filhos
+    public IntStream vertices() {
+        return Arrays.stream(order, 0, reached);
+    }
+
+    // Visita todos os vértices alcançados, pais antes dos filhos
+    public void forEach(Visitor visitor) {
+        for (int i = 0; i < reached; i++) {
+            int v = order[i];
+            visitor.visit(v, pred[v], dist[v]);
+        }
+    }
+
+    // Número de arcos da fonte até cada vértice (-1 para inalcançáveis)
+    public int[] depths() {
+        int[] depth = new int[dist.length];
+        Arrays.fill(depth, -1);
+        depth[source] = 0;
+        for (int i = 1; i < reached; i++) {
+            int v = order[i];
+            depth[v] = depth[pred[v]] + 1;
+        }
+        return depth;
+    }
+
+    // Vértices na subárvore de cada vértice, incluindo ele (0 para inalcançáveis)
+    public int[] subtreeSizes() {
+        int[] size = new int[dist.length];
+        for (int i = reached - 1; i >= 0; i--) {
+            int v = order[i];
+            size[v]++;
+            if (i > 0) size[pred[v]] += size[v];
+        }
+        return size;
+    }
+
+    // Bytes estimados dos arrays (limite do ShortestPathCache)
+    public long bytes() {
+        return 64 + 16 + 8L * dist.length + 16 + 4L * pred.length + 16 + 4L * order.length;
+    }
+}
@@ -0,0 +1,30 @@
+package grafos.algorithms;
+
+// Floresta geradora mínima: custo total e, por componente conexa, o vértice onde a
+// busca começou, o número de vértices e o custo da árvore (vértice isolado = custo 0)
+public final class SpanningForest {
+    public final long cost;
+    public final int[] componentRoots;
+    public final int[] componentSizes;
+    public final long[] componentCosts;
+
+    public SpanningForest(long cost, int[] componentRoots, int[] componentSizes, long[] componentCosts) {
+        this.cost = cost;
+        this.componentRoots = componentRoots;
+        this.componentSizes = componentSizes;
+        this.componentCosts = componentCosts;
+    }
+
+    public int componentCount() {
+        return componentRoots.length;
+    }
+
+    // Índice do maior componente (em número de vértices), -1 se vazio
+    public int largestComponent() {
+        int best = -1;
+        for (int c = 0; c < componentSizes.length; c++) {
+            if (best < 0 || componentSizes[c] > componentSizes[best]) best = c;
+        }
+        return best;
+    }
+}
@@ -1,6 +1,8 @@
 package grafos.algorithms;
 
-public class UnionFind {
+import grafos.metrics.Counters;
+
+public class UnionFind implements DisjointSets {
     private final int[] parent;
     private final int[] rank;
 
@@ -10,16 +12,33 @@ public class UnionFind {
         for (int i = 0; i <= n; i++) parent[i] = i;
     }
 
+    // Iterativo (cadeias longas não estouram a pilha): acha a raiz e depois comprime o caminho
+    @Override
     public int find(int x) {
-        if (parent[x] != x) parent[x] = find(parent[x]);
-        return parent[x];
+        int root = x;
+        while (parent[root] != root) root = parent[root];
+        long steps = 0;
+        while (parent[x] != root) {
+            int next = parent[x];
+            parent[x] = root;
+            x = next;
+            steps++;
+        }
+        if (Counters.ENABLED) {
+            Counters.FINDS.increment();
+            Counters.COMPRESSION_STEPS.add(steps);
+        }
+        return root;
     }
 
-    public void union(int a, int b) {
+    @Override
+    public boolean union(int a, int b) {
         int ra = find(a), rb = find(b);
-        if (ra == rb) return;
+        if (ra == rb) return false;
+        if (Counters.ENABLED) Counters.UNIONS.increment();
         if (rank[ra] < rank[rb]) parent[ra] = rb;
         else if (rank[ra] > rank[rb]) parent[rb] = ra;
         else { parent[rb] = ra; rank[ra]++; }
+        return true;
     }
 }
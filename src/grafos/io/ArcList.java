@@ -0,0 +1,43 @@
+package grafos.io;
+
+import java.util.Arrays;
+
+// Lista crescente de arcos (u, v, w) em arrays primitivos, usada pelos leitores
+// para acumular a entrada antes de montar o Graph.
+final class ArcList {
+    int[] from;
+    int[] to;
+    int[] weight;
+    int size;
+
+    ArcList(int capacity) {
+        capacity = Math.max(16, capacity);
+        from = new int[capacity];
+        to = new int[capacity];
+        weight = new int[capacity];
+    }
+
+    void add(int u, int v, int w) {
+        if (size == from.length) grow();
+        from[size] = u;
+        to[size] = v;
+        weight[size] = w;
+        size++;
+    }
+
+    // Remove os k primeiros arcos (ex.: arcos que antecedem a linha 'p')
+    void dropFirst(int k) {
+        if (k <= 0) return;
+        System.arraycopy(from, k, from, 0, size - k);
+        System.arraycopy(to, k, to, 0, size - k);
+        System.arraycopy(weight, k, weight, 0, size - k);
+        size -= k;
+    }
+
+    private void grow() {
+        int cap = from.length + (from.length >> 1) + 16;
+        from = Arrays.copyOf(from, cap);
+        to = Arrays.copyOf(to, cap);
+        weight = Arrays.copyOf(weight, cap);
+    }
+}
@@ -0,0 +1,81 @@
+package grafos.io;
+
+import java.nio.ByteBuffer;
+
+// Leitor de linhas DIMACS (.gr) direto sobre bytes, sem criar Strings.
+// Reconhece 'p sp <n> <m>' e 'a <u> <v> <w>'; comentários e linhas
+// desconhecidas são ignorados. Cada instância acumula um trecho da entrada.
+final class DimacsScanner {
+    int n = -1;   // vértices declarados na linha 'p' (-1 se não vista)
+    int m = -1;   // arcos declarados na linha 'p'
+    int arcsBeforeHeader = -1; // arcos deste trecho lidos antes da linha 'p'
+    final ArcList arcs;
+
+    DimacsScanner(int expectedArcs) {
+        this.arcs = new ArcList(expectedArcs);
+    }
+
+    // Processa as linhas completas em [from, to); o trecho deve começar no início de uma linha
+    void scan(ByteBuffer buf, int from, int to) {
+        int i = from;
+        while (i < to) {
+            byte type = buf.get(i);
+            if (type == 'a') {
+                int u = parseInt(buf, skipBlanks(buf, i + 1, to), to);
+                int v = parseInt(buf, skipBlanks(buf, parsedEnd, to), to);
+                int w = parseInt(buf, skipBlanks(buf, parsedEnd, to), to);
+                i = parsedEnd;
+                arcs.add(u, v, w);
+            } else if (type == 'p') {
+                // 'p sp <n> <m>': pula o identificador do problema
+                i = skipBlanks(buf, i + 1, to);
+                while (i < to && !isBlank(buf.get(i)) && buf.get(i) != '\n') i++;
+                int nn = parseInt(buf, skipBlanks(buf, i, to), to);
+                int mm = parseInt(buf, skipBlanks(buf, parsedEnd, to), to);
+                i = parsedEnd;
+                if (n < 0) {
+                    n = nn;
+                    m = mm;
+                    arcsBeforeHeader = arcs.size;
+                }
+            }
+            // avança até o fim da linha (comentários, '\r', texto extra)
+            while (i < to && buf.get(i) != '\n') i++;
+            i++;
+        }
+    }
+
+    // Posição logo após o último número lido por parseInt
+    private int parsedEnd;
+
+    // Inteiro não negativo em [start, to); como Integer.parseInt, rejeita campo vazio e
+    // valores acima de Integer.MAX_VALUE em vez de deixá-los estourar
+    private int parseInt(ByteBuffer buf, int start, int to) {
+        int i = start;
+        long x = 0;
+        while (i < to && isDigit(buf.get(i))) {
+            x = x * 10 + (buf.get(i++) - '0');
+            if (x > Integer.MAX_VALUE) throw invalid(buf, start);
+        }
+        if (i == start) throw invalid(buf, i);
+        parsedEnd = i;
+        return (int) x;
+    }
+
+    private static NumberFormatException invalid(ByteBuffer buf, int i) {
+        return new NumberFormatException("Número inválido na entrada DIMACS (byte " + i + ")");
+    }
+
+    private static int skipBlanks(ByteBuffer buf, int i, int to) {
+        while (i < to && isBlank(buf.get(i))) i++;
+        return i;
+    }
+
+    private static boolean isBlank(byte b) {
+        return b == ' ' || b == '\t';
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+}
@@ -1,6 +1,7 @@
 package grafos.io;
 
-import grafos.model.Edge;
+import grafos.metrics.PhaseEvent;
+import grafos.model.CsrGraph;
 import grafos.model.Graph;
 
 import java.io.BufferedReader;
@@ -8,16 +9,82 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.util.HashMap;
-import java.util.Map;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.zip.GZIPInputStream;
 
 public class GraphReader {
 
     public static boolean VERBOSE = true;
 
+    // Arquivos .gr sem compressão são mapeados em memória e lidos em blocos paralelos
+    public static boolean PARALLEL_PARSE = true;
+
+    // Arquivos .gr.gz são descompactados e interpretados em threads diferentes
+    public static boolean PIPELINED_GZIP = true;
+
+    // Usa automaticamente um snapshot binário (GraphSnapshot) ao lado do arquivo, se mais novo
+    public static boolean USE_SNAPSHOTS = true;
+
+    // Grava o snapshot binário após ler um arquivo texto
+    public static boolean WRITE_SNAPSHOTS = false;
+
+    private static final long MIN_CHUNK_BYTES = 4L << 20;
+    private static final long MAX_CHUNK_BYTES = 64L << 20;
+
     public static Graph readGraph(String filename) throws IOException {
+        PhaseEvent event = PhaseEvent.start("read", filename, null);
+        try {
+            return readGraph(filename, event);
+        } finally {
+            event.finish();
+        }
+    }
+
+    private static Graph readGraph(String filename, PhaseEvent event) throws IOException {
         if (VERBOSE) System.out.println("Tentando abrir arquivo: " + filename);
+        if (filename.endsWith(GraphSnapshot.EXTENSION)) {
+            event.detail = "snapshot";
+            return GraphSnapshot.read(filename);
+        }
+        if (USE_SNAPSHOTS && GraphSnapshot.isFresh(filename)) {
+            String snap = GraphSnapshot.snapshotPath(filename);
+            try {
+                if (VERBOSE) System.out.println("Usando snapshot binário: " + snap);
+                event.detail = "snapshot";
+                return GraphSnapshot.read(snap);
+            } catch (IOException e) {
+                if (VERBOSE) System.out.println("Snapshot ignorado (" + e.getMessage() + "), lendo arquivo texto...");
+            }
+        }
+        event.detail = "text";
+        Graph g = readText(filename);
+        if (WRITE_SNAPSHOTS && g != null) {
+            String snap = GraphSnapshot.snapshotPath(filename);
+            GraphSnapshot.write(g, snap);
+            if (VERBOSE) System.out.println("Snapshot binário gravado: " + snap);
+        }
+        return g;
+    }
+
+    private static Graph readText(String filename) throws IOException {
+        if (PARALLEL_PARSE && !filename.endsWith(".gz")) {
+            return readMapped(filename);
+        }
+        if (PIPELINED_GZIP && filename.endsWith(".gz")) {
+            int parsers = GzipPipeline.defaultParsers();
+            if (VERBOSE) System.out.println("Arquivo é GZip, descompactando em pipeline (" + parsers + " thread(s) de leitura)...");
+            return assemble(new GzipPipeline(parsers).read(filename));
+        }
         InputStream is = new FileInputStream(filename);
         if (filename.endsWith(".gz")) {
             if (VERBOSE) System.out.println("Arquivo é GZip, descompactando...");
@@ -26,8 +93,8 @@ public class GraphReader {
         BufferedReader br = new BufferedReader(new InputStreamReader(is));
 
         String line;
-        Graph g = null;
-        Map<Long, Integer> undirectedMin = null;
+        int n = -1;
+        ArcList arcs = null;
 
         while ((line = br.readLine()) != null) {
             if (line.isEmpty()) continue;
@@ -37,42 +104,162 @@ public class GraphReader {
                 continue;
             } else if (type == 'p') {
                 String[] parts = line.trim().split("\\s+");
-                int n = Integer.parseInt(parts[2]);
+                n = Integer.parseInt(parts[2]);
                 int m = Integer.parseInt(parts[3]);
-                g = new Graph(n);
-                undirectedMin = new HashMap<>(Math.max(16, m / 2));
+                arcs = new ArcList(m);
             } else if (type == 'a') {
                 String[] parts = line.trim().split("\\s+");
                 int u = Integer.parseInt(parts[1]);
                 int v = Integer.parseInt(parts[2]);
                 int w = Integer.parseInt(parts[3]);
-                if (g == null) continue;
-                // dirigido
-                g.adjDir.get(u).add(new Edge(u, v, w));
-                g.arcCount++;
+                if (arcs == null) continue;
+                arcs.add(u, v, w);
+            }
+        }
+
+        br.close();
+
+        if (arcs == null) return null;
+        return buildGraph(n, List.of(arcs));
+    }
+
+    // Mapeia o arquivo, divide-o em blocos alinhados a quebras de linha e
+    // interpreta os blocos em paralelo com DimacsScanner.
+    private static Graph readMapped(String filename) throws IOException {
+        try (FileChannel ch = FileChannel.open(Path.of(filename), StandardOpenOption.READ)) {
+            long[] bounds = chunkBounds(ch);
+            int chunks = bounds.length - 1;
+            if (VERBOSE) System.out.println("Arquivo mapeado em memória, lendo " + chunks + " bloco(s) em paralelo...");
+
+            List<DimacsScanner> scanners;
+            try {
+                scanners = IntStream.range(0, chunks).parallel()
+                        .mapToObj(c -> scanChunk(ch, bounds[c], bounds[c + 1]))
+                        .collect(Collectors.toList());
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+
+            return assemble(scanners);
+        }
+    }
+
+    // Junta trechos interpretados (em ordem de arquivo); arcos anteriores à
+    // linha 'p' são ignorados, como na leitura por linhas
+    private static Graph assemble(List<DimacsScanner> scanners) throws IOException {
+        int chunks = scanners.size();
+        int header = 0;
+        while (header < chunks && scanners.get(header).n < 0) header++;
+        if (header == chunks) return null;
+        DimacsScanner first = scanners.get(header);
+        first.arcs.dropFirst(first.arcsBeforeHeader);
+
+        List<ArcList> parts = new ArrayList<>(chunks - header);
+        for (int c = header; c < chunks; c++) parts.add(scanners.get(c).arcs);
+        return buildGraph(first.n, parts);
+    }
+
+    private static DimacsScanner scanChunk(FileChannel ch, long start, long end) {
+        try {
+            int len = (int) (end - start);
+            MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, start, len);
+            // cada arco ocupa em média ~12 bytes nos arquivos do DIMACS
+            DimacsScanner sc = new DimacsScanner(len / 12);
+            sc.scan(buf, 0, len);
+            return sc;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Posições de início de cada bloco (e o tamanho do arquivo no final),
+    // sempre logo após um '\n' para que nenhuma linha seja dividida.
+    private static long[] chunkBounds(FileChannel ch) throws IOException {
+        long size = ch.size();
+        int parallelism = ForkJoinPool.getCommonPoolParallelism() + 1;
+        long target = Math.max(MIN_CHUNK_BYTES, Math.min(MAX_CHUNK_BYTES, size / (parallelism * 4L)));
+
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        ByteBuffer probe = ByteBuffer.allocate(4096);
+        long pos = target;
+        while (pos < size) {
+            long nl = -1;
+            long p = pos;
+            while (nl < 0 && p < size) {
+                probe.clear();
+                int read = ch.read(probe, p);
+                if (read <= 0) break;
+                for (int i = 0; i < read; i++) {
+                    if (probe.get(i) == '\n') { nl = p + i; break; }
+                }
+                p += read;
+            }
+            if (nl < 0) break;
+            bounds.add(nl + 1);
+            pos = nl + 1 + target;
+        }
+        if (bounds.get(bounds.size() - 1) < size) bounds.add(size);
+
+        long[] out = new long[bounds.size()];
+        for (int i = 0; i < out.length; i++) out[i] = bounds.get(i);
+        return out;
+    }
+
+    // Monta o grafo a partir dos arcos lidos, na ordem em que aparecem na entrada;
+    // os arcos vão dos arrays de cada trecho direto para o CSR, sem objetos por arco
+    static Graph buildGraph(int n, List<ArcList> parts) throws IOException {
+        int total = 0;
+        for (ArcList arcs : parts) total += arcs.size;
+
+        PhaseEvent event = PhaseEvent.start("dedup", null, total + " arcos");
+        int[] offsets = new int[n + 2];
+        LongIntMinMap undirectedMin = new LongIntMinMap(total / 2);
+
+        for (ArcList arcs : parts) {
+            int[] from = arcs.from, to = arcs.to, weight = arcs.weight;
+            for (int i = 0; i < arcs.size; i++) {
+                int u = from[i];
+                int v = to[i];
+                if (u < 1 || u > n || v < 1 || v > n) {
+                    throw new IOException("Arco com vértice fora do intervalo [1, " + n + "]: " + u + " -> " + v);
+                }
+                // dirigido: grau de saída, para o CSR
+                offsets[u + 1]++;
                 // não dirigido (peso mínimo entre qualquer direção)
                 int a = Math.min(u, v);
                 int b = Math.max(u, v);
                 long key = (((long)a) << 32) | (b & 0xffffffffL);
-                Integer cur = undirectedMin.get(key);
-                if (cur == null || w < cur) undirectedMin.put(key, w);
+                undirectedMin.putMin(key, weight[i]);
             }
         }
 
-        br.close();
-
-        if (g != null && undirectedMin != null) {
-            for (Map.Entry<Long, Integer> e : undirectedMin.entrySet()) {
-                long key = e.getKey();
-                int a = (int)(key >> 32);
-                int b = (int)(key & 0xffffffffL);
-                int w = e.getValue();
-                g.edgesUndir.add(new Edge(a, b, w));
-                g.adjUndir.get(a).add(new Edge(a, b, w));
-                g.adjUndir.get(b).add(new Edge(b, a, w));
+        for (int u = 0; u <= n; u++) offsets[u + 1] += offsets[u];
+        int[] next = new int[n + 1];
+        System.arraycopy(offsets, 0, next, 0, n + 1);
+        int[] targets = new int[total];
+        int[] weights = new int[total];
+        for (ArcList arcs : parts) {
+            int[] from = arcs.from, to = arcs.to, weight = arcs.weight;
+            for (int i = 0; i < arcs.size; i++) {
+                int pos = next[from[i]]++;
+                targets[pos] = to[i];
+                weights[pos] = weight[i];
             }
         }
+        CsrGraph dir = new CsrGraph(n, offsets, targets, weights);
 
-        return g;
+        int mu = undirectedMin.size();
+        int[] ua = new int[mu], ub = new int[mu], uw = new int[mu];
+        for (int i = 0; i < mu; i++) {
+            long key = undirectedMin.keyAt(i);
+            ua[i] = (int)(key >> 32);
+            ub[i] = (int)(key & 0xffffffffL);
+            uw[i] = undirectedMin.valueAt(i);
+        }
+        CsrGraph undir = CsrGraph.fromArcs(n, ua, ub, uw, mu);
+
+        event.finish();
+        return new Graph(n, dir, undir);
     }
 }
@@ -0,0 +1,152 @@
+package grafos.io;
+
+import grafos.model.CsrGraph;
+import grafos.model.Graph;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+// Snapshot binário de um Graph já processado (little-endian, inteiros de 32 bits):
+//   cabeçalho: MAGIC, VERSION, n, arcos dirigidos (m), arestas não dirigidas (mu)
+//   CSR dirigido: offsets[n + 2], targets[m], weights[m]
+//   CSR não dirigido deduplicado (cada aresta uma vez, indexada pelo menor vértice):
+//   offsets[n + 2], targets[mu], weights[mu]
+// A carga mapeia o arquivo e copia os blocos direto para os arrays, sem parsing; os dois
+// CSR lidos viram o armazenamento do Graph tal como estão, sem objetos Edge (a adjacência
+// não dirigida nos dois sentidos só é montada se algum algoritmo pedir g.undirCsr()).
+public final class GraphSnapshot {
+
+    public static final String EXTENSION = ".snap";
+
+    private static final int MAGIC = 0x4E535247; // "GRSN"
+    private static final int VERSION = 1;
+    private static final int HEADER_INTS = 5;
+    private static final int MAX_INTS_PER_MAP = 1 << 28;
+
+    private GraphSnapshot() {}
+
+    // Caminho do snapshot associado a um arquivo de entrada (x.gr ou x.gr.gz -> x.gr.snap)
+    public static String snapshotPath(String graphFile) {
+        String base = graphFile.endsWith(".gz") ? graphFile.substring(0, graphFile.length() - 3) : graphFile;
+        return base + EXTENSION;
+    }
+
+    // Verdadeiro se existe snapshot para o arquivo e ele não é mais antigo que a fonte
+    public static boolean isFresh(String graphFile) {
+        File src = new File(graphFile);
+        File snap = new File(snapshotPath(graphFile));
+        return snap.isFile() && src.isFile() && snap.lastModified() >= src.lastModified();
+    }
+
+    public static void write(Graph g, String path) throws IOException {
+        CsrGraph dir = g.dirCsr();
+        CsrGraph undir = g.undirEdges();
+
+        // escreve em arquivo temporário e renomeia, para nunca deixar um snapshot parcial
+        Path target = Path.of(path).toAbsolutePath();
+        Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buf = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+            buf.putInt(MAGIC).putInt(VERSION).putInt(g.n).putInt(dir.arcCount()).putInt(undir.arcCount());
+            writeInts(ch, buf, dir.offsets);
+            writeInts(ch, buf, dir.targets);
+            writeInts(ch, buf, dir.weights);
+            writeInts(ch, buf, undir.offsets);
+            writeInts(ch, buf, undir.targets);
+            writeInts(ch, buf, undir.weights);
+            buf.flip();
+            while (buf.hasRemaining()) ch.write(buf);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static Graph read(String path) throws IOException {
+        try (FileChannel ch = FileChannel.open(Path.of(path), StandardOpenOption.READ)) {
+            if (ch.size() < HEADER_INTS * 4L) {
+                throw new IOException("Arquivo não é um snapshot de grafo: " + path);
+            }
+            int[] header = readInts(ch, 0, HEADER_INTS);
+            if (header[0] != MAGIC) {
+                throw new IOException("Arquivo não é um snapshot de grafo: " + path);
+            }
+            if (header[1] != VERSION) {
+                throw new IOException("Versão de snapshot não suportada (" + header[1] + "): " + path);
+            }
+            int n = header[2];
+            int m = header[3];
+            int mu = header[4];
+            long expected = 4L * (HEADER_INTS + 2L * (n + 2) + 2L * m + 2L * mu);
+            if (n < 0 || m < 0 || mu < 0 || ch.size() != expected) {
+                throw new IOException("Snapshot truncado ou corrompido: " + path);
+            }
+
+            long pos = HEADER_INTS * 4L;
+            int[] dirOffsets = readInts(ch, pos, n + 2);   pos += 4L * (n + 2);
+            int[] dirTargets = readInts(ch, pos, m);       pos += 4L * m;
+            int[] dirWeights = readInts(ch, pos, m);       pos += 4L * m;
+            int[] undOffsets = readInts(ch, pos, n + 2);   pos += 4L * (n + 2);
+            int[] undTargets = readInts(ch, pos, mu);      pos += 4L * mu;
+            int[] undWeights = readInts(ch, pos, mu);
+            if (!validCsr(n, dirOffsets, dirTargets) || !validCsr(n, undOffsets, undTargets)) {
+                throw new IOException("Snapshot truncado ou corrompido: " + path);
+            }
+
+            CsrGraph dir = new CsrGraph(n, dirOffsets, dirTargets, dirWeights);
+            CsrGraph undir = new CsrGraph(n, undOffsets, undTargets, undWeights);
+            return new Graph(n, dir, undir);
+        }
+    }
+
+    // Offsets começam em 0, nunca decrescem e terminam em targets.length; destinos em 1..n
+    private static boolean validCsr(int n, int[] offsets, int[] targets) {
+        if (offsets[0] != 0 || offsets[n + 1] != targets.length) return false;
+        for (int u = 0; u <= n; u++) {
+            if (offsets[u] > offsets[u + 1]) return false;
+        }
+        for (int t : targets) {
+            if (t < 1 || t > n) return false;
+        }
+        return true;
+    }
+
+    private static void writeInts(FileChannel ch, ByteBuffer buf, int[] values) throws IOException {
+        int i = 0;
+        while (i < values.length) {
+            if (buf.remaining() < 4) {
+                buf.flip();
+                while (buf.hasRemaining()) ch.write(buf);
+                buf.clear();
+            }
+            IntBuffer view = buf.asIntBuffer();
+            int count = Math.min(view.remaining(), values.length - i);
+            view.put(values, i, count);
+            buf.position(buf.position() + count * 4);
+            i += count;
+        }
+    }
+
+    private static int[] readInts(FileChannel ch, long pos, int count) throws IOException {
+        int[] out = new int[count];
+        int done = 0;
+        while (done < count) {
+            int len = Math.min(MAX_INTS_PER_MAP, count - done);
+            ByteBuffer mapped = ch.map(FileChannel.MapMode.READ_ONLY, pos + 4L * done, 4L * len)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            mapped.asIntBuffer().get(out, done, len);
+            done += len;
+        }
+        return out;
+    }
+}
@@ -0,0 +1,164 @@
+package grafos.io;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+
+// Leitura de .gr.gz em pipeline: a thread chamadora descompacta em buffers grandes
+// e reutilizáveis, sempre cortados no fim de uma linha, e os entrega por uma fila
+// limitada a threads que interpretam cada buffer com DimacsScanner.
+final class GzipPipeline {
+
+    private static final int BUFFER_BYTES = 4 << 20;
+    private static final int INFLATE_BUFFER_BYTES = 1 << 16;
+
+    // Bloco de linhas completas; seq < 0 sinaliza o fim para a thread de parsing
+    private static final class Block {
+        final int seq;
+        final byte[] data;
+        final int len;
+
+        Block(int seq, byte[] data, int len) {
+            this.seq = seq;
+            this.data = data;
+            this.len = len;
+        }
+    }
+
+    private final int parsers;
+    private final BlockingQueue<byte[]> free;
+    private final BlockingQueue<Block> full;
+    private final ConcurrentHashMap<Integer, DimacsScanner> results = new ConcurrentHashMap<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    GzipPipeline(int parsers) {
+        this.parsers = parsers;
+        int buffers = parsers + 2;
+        this.free = new ArrayBlockingQueue<>(buffers);
+        this.full = new ArrayBlockingQueue<>(buffers + parsers);
+        for (int i = 0; i < buffers; i++) free.add(new byte[BUFFER_BYTES]);
+    }
+
+    static int defaultParsers() {
+        return Math.max(1, Math.min(3, Runtime.getRuntime().availableProcessors() - 1));
+    }
+
+    // Devolve os trechos interpretados na ordem do arquivo
+    List<DimacsScanner> read(String filename) throws IOException {
+        List<Thread> threads = new ArrayList<>(parsers);
+        for (int i = 0; i < parsers; i++) {
+            Thread t = new Thread(this::parseLoop, "gr-gz-parser-" + i);
+            t.setDaemon(true);
+            t.start();
+            threads.add(t);
+        }
+
+        int blocks = 0;
+        try (InputStream in = new GZIPInputStream(new FileInputStream(filename), INFLATE_BUFFER_BYTES)) {
+            blocks = inflateLoop(in);
+        } catch (IOException | RuntimeException e) {
+            failure.compareAndSet(null, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, e);
+        } finally {
+            for (int i = 0; i < parsers; i++) putUninterruptibly(new Block(-1, null, 0));
+            for (Thread t : threads) joinUninterruptibly(t);
+        }
+
+        Throwable err = failure.get();
+        if (err instanceof IOException) throw (IOException) err;
+        if (err instanceof RuntimeException) throw (RuntimeException) err;
+        if (err instanceof Error) throw (Error) err;
+        if (err != null) throw new IOException("Falha na leitura em pipeline de " + filename, err);
+
+        List<DimacsScanner> ordered = new ArrayList<>(blocks);
+        for (int i = 0; i < blocks; i++) ordered.add(results.get(i));
+        return ordered;
+    }
+
+    private int inflateLoop(InputStream in) throws IOException, InterruptedException {
+        int seq = 0;
+        byte[] buf = free.take();
+        int len = 0;
+        while (failure.get() == null) {
+            int r = in.read(buf, len, buf.length - len);
+            if (r < 0) break;
+            len += r;
+            if (len < buf.length) continue;
+
+            // buffer cheio: entrega até o último '\n' e leva o resto para o próximo
+            int cut = len;
+            while (cut > 0 && buf[cut - 1] != '\n') cut--;
+            if (cut == 0) throw new IOException("Linha maior que " + buf.length + " bytes na entrada");
+            byte[] next = free.take();
+            int rest = len - cut;
+            System.arraycopy(buf, cut, next, 0, rest);
+            full.put(new Block(seq++, buf, cut));
+            buf = next;
+            len = rest;
+        }
+        if (len > 0) full.put(new Block(seq++, buf, len));
+        else free.put(buf);
+        return seq;
+    }
+
+    private void parseLoop() {
+        while (true) {
+            Block b;
+            try {
+                b = full.take();
+            } catch (InterruptedException e) {
+                failure.compareAndSet(null, e);
+                return;
+            }
+            if (b.seq < 0) return;
+            try {
+                // mesmo após uma falha, continua consumindo para não travar a descompressão
+                if (failure.get() == null) {
+                    DimacsScanner sc = new DimacsScanner(b.len / 12);
+                    sc.scan(ByteBuffer.wrap(b.data, 0, b.len), 0, b.len);
+                    results.put(b.seq, sc);
+                }
+            } catch (Throwable e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                free.offer(b.data);
+            }
+        }
+    }
+
+    private void putUninterruptibly(Block b) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                full.put(b);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    private static void joinUninterruptibly(Thread t) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                t.join();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+}
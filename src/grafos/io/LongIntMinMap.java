@@ -0,0 +1,78 @@
+package grafos.io;
+
+import java.util.Arrays;
+
+// Mapa long -> int com endereçamento aberto (sondagem linear) sobre arrays primitivos.
+// Guarda, para cada chave, o menor valor inserido; as entradas ficam em arrays densos
+// na ordem da primeira inserção, e a tabela de espalhamento guarda só os índices.
+final class LongIntMinMap {
+    private int[] table;   // índice + 1 da entrada em keys/values; 0 = vazio
+    private int mask;
+    private long[] keys;
+    private int[] values;
+    private int size;
+
+    LongIntMinMap(int expected) {
+        int cap = Integer.highestOneBit(Math.max(8, expected) * 2 - 1) << 1;
+        table = new int[cap];
+        mask = cap - 1;
+        keys = new long[Math.max(8, expected)];
+        values = new int[keys.length];
+    }
+
+    int size() {
+        return size;
+    }
+
+    long keyAt(int i) {
+        return keys[i];
+    }
+
+    int valueAt(int i) {
+        return values[i];
+    }
+
+    // Insere a chave com o valor dado, ou reduz o valor atual se o novo for menor
+    void putMin(long key, int value) {
+        int slot = mix(key) & mask;
+        while (true) {
+            int idx = table[slot];
+            if (idx == 0) break;
+            if (keys[idx - 1] == key) {
+                if (value < values[idx - 1]) values[idx - 1] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size + (size >> 1) + 8);
+            values = Arrays.copyOf(values, keys.length);
+        }
+        keys[size] = key;
+        values[size] = value;
+        size++;
+        table[slot] = size;
+        // carga máxima de 1/2
+        if (size * 2 > table.length) rehash(table.length * 2);
+    }
+
+    private void rehash(int cap) {
+        table = new int[cap];
+        mask = cap - 1;
+        for (int i = 0; i < size; i++) {
+            int slot = mix(keys[i]) & mask;
+            while (table[slot] != 0) slot = (slot + 1) & mask;
+            table[slot] = i + 1;
+        }
+    }
+
+    private static int mix(long key) {
+        // finalizador do MurmurHash3 (64 bits)
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return (int) key;
+    }
+}
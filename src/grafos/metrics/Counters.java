@@ -0,0 +1,59 @@
+package grafos.metrics;
+
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+// Contadores de trabalho dos algoritmos, ligados por -Dgrafos.counters=true.
+// ENABLED é uma constante: com ela falsa, o JIT elimina os blocos
+// "if (Counters.ENABLED) ..." e também as contagens locais que só eles usam.
+// Os laços internos contam em variáveis locais e somam aqui uma vez por chamada.
+// Os contadores são globais: fases executadas ao mesmo tempo (ex.: no servidor)
+// se misturam.
+public final class Counters {
+    public static final boolean ENABLED = Boolean.getBoolean("grafos.counters");
+
+    public static final LongAdder RELAXATIONS = new LongAdder();       // arcos examinados (Dijkstra, Prim)
+    public static final LongAdder HEAP_PUSHES = new LongAdder();       // inserções e decrease-key em filas de prioridade
+    public static final LongAdder STALE_POPS = new LongAdder();        // entradas obsoletas retiradas de filas lazy
+    public static final LongAdder FINDS = new LongAdder();             // union-find: chamadas a find
+    public static final LongAdder UNIONS = new LongAdder();            // union-find: uniões efetivadas
+    public static final LongAdder COMPRESSION_STEPS = new LongAdder(); // union-find: ponteiros encurtados
+
+    private static final LongAdder[] ALL = {RELAXATIONS, HEAP_PUSHES, STALE_POPS, FINDS, UNIONS, COMPRESSION_STEPS};
+    private static final String[] LABELS = {"relaxações", "inserções no heap", "retiradas obsoletas", "finds", "uniões", "compressões"};
+
+    private Counters() {
+    }
+
+    // Valores atuais, na ordem de ALL (para calcular a diferença de uma fase)
+    public static long[] snapshot() {
+        long[] values = new long[ALL.length];
+        for (int i = 0; i < ALL.length; i++) values[i] = ALL[i].sum();
+        return values;
+    }
+
+    // Soma o trabalho de uma busca (chamar dentro de "if (Counters.ENABLED)")
+    public static void addSearch(long relaxations, long heapPushes, long stalePops) {
+        RELAXATIONS.add(relaxations);
+        HEAP_PUSHES.add(heapPushes);
+        STALE_POPS.add(stalePops);
+    }
+
+    public static void reset() {
+        for (LongAdder a : ALL) a.reset();
+    }
+
+    // Diferenças desde 'before' (só as não nulas), ex.: "relaxações 733.846, inserções no heap 264.346"
+    public static String describeSince(long[] before) {
+        NumberFormat nf = NumberFormat.getIntegerInstance(Locale.of("pt", "BR"));
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < ALL.length; i++) {
+            long delta = ALL[i].sum() - before[i];
+            if (delta == 0) continue;
+            if (sb.length() > 0) sb.append(", ");
+            sb.append(LABELS[i]).append(' ').append(nf.format(delta));
+        }
+        return sb.length() > 0 ? sb.toString() : "nenhum trabalho contado";
+    }
+}
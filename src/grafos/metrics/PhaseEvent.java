@@ -0,0 +1,78 @@
+package grafos.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Evento do JDK Flight Recorder em volta de uma fase (leitura, deduplicação,
+// caminhos mínimos, AGM). Fora de uma gravação, start() e finish() só consultam
+// isEnabled(). Com os contadores ligados, o evento leva o trabalho contado na fase.
+//   java -XX:StartFlightRecording=filename=grafos.jfr ... ; jfr print --events grafos.Phase grafos.jfr
+@Name("grafos.Phase")
+@Label("Fase")
+@Category("Grafos")
+@Description("Fase de leitura ou de algoritmo sobre um grafo")
+@StackTrace(false)
+public final class PhaseEvent extends Event {
+    @Label("Fase")
+    public String phase;
+
+    @Label("Arquivo")
+    public String file;
+
+    @Label("Detalhe")
+    public String detail;
+
+    @Label("Relaxações")
+    public long relaxations;
+
+    @Label("Inserções no heap")
+    public long heapPushes;
+
+    @Label("Retiradas obsoletas")
+    public long stalePops;
+
+    @Label("Finds")
+    public long finds;
+
+    @Label("Uniões")
+    public long unions;
+
+    @Label("Compressões")
+    public long compressionSteps;
+
+    public static PhaseEvent start(String phase, String file, String detail) {
+        PhaseEvent e = new PhaseEvent();
+        if (!e.isEnabled()) return e;
+        e.phase = phase;
+        e.file = file;
+        e.detail = detail;
+        if (Counters.ENABLED) { // guarda o valor inicial negativo; finish() soma o final
+            e.relaxations = -Counters.RELAXATIONS.sum();
+            e.heapPushes = -Counters.HEAP_PUSHES.sum();
+            e.stalePops = -Counters.STALE_POPS.sum();
+            e.finds = -Counters.FINDS.sum();
+            e.unions = -Counters.UNIONS.sum();
+            e.compressionSteps = -Counters.COMPRESSION_STEPS.sum();
+        }
+        e.begin();
+        return e;
+    }
+
+    public void finish() {
+        if (phase == null || !isEnabled()) return; // gravação não estava ativa em start()
+        end();
+        if (Counters.ENABLED) {
+            relaxations += Counters.RELAXATIONS.sum();
+            heapPushes += Counters.HEAP_PUSHES.sum();
+            stalePops += Counters.STALE_POPS.sum();
+            finds += Counters.FINDS.sum();
+            unions += Counters.UNIONS.sum();
+            compressionSteps += Counters.COMPRESSION_STEPS.sum();
+        }
+        if (shouldCommit()) commit();
+    }
+}
@@ -0,0 +1,116 @@
+package grafos.model;
+
+import java.util.List;
+
+// Adjacência imutável em formato CSR (Compressed Sparse Row): os arcos que saem
+// de u ocupam as posições [offsets[u], offsets[u + 1]) de targets/weights.
+// Vértices são numerados de 1 a n (a posição 0 fica vazia, como em Graph).
+public final class CsrGraph {
+    public final int n;
+    public final int[] offsets; // tamanho n + 2
+    public final int[] targets; // destino de cada arco
+    public final int[] weights; // peso de cada arco
+
+    public CsrGraph(int n, int[] offsets, int[] targets, int[] weights) {
+        if (offsets.length != n + 2) {
+            throw new IllegalArgumentException("offsets deve ter tamanho n + 2");
+        }
+        if (targets.length != weights.length || offsets[n + 1] != targets.length) {
+            throw new IllegalArgumentException("targets/weights inconsistentes com offsets");
+        }
+        this.n = n;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    public int arcCount() {
+        return targets.length;
+    }
+
+    public int degree(int u) {
+        return offsets[u + 1] - offsets[u];
+    }
+
+    // Converte listas de adjacência (como Graph.adjDir()/adjUndir()) preservando a ordem dos arcos
+    public static CsrGraph fromAdjacency(int n, List<List<Edge>> adj) {
+        int[] offsets = new int[n + 2];
+        for (int u = 0; u <= n; u++) {
+            offsets[u + 1] = offsets[u] + adj.get(u).size();
+        }
+        int m = offsets[n + 1];
+        int[] targets = new int[m];
+        int[] weights = new int[m];
+        for (int u = 0; u <= n; u++) {
+            int pos = offsets[u];
+            for (Edge e : adj.get(u)) {
+                targets[pos] = e.v;
+                weights[pos] = e.w;
+                pos++;
+            }
+        }
+        return new CsrGraph(n, offsets, targets, weights);
+    }
+
+    // Monta o CSR a partir de m arcos (from[i] -> to[i], peso w[i]) por contagem,
+    // sem objetos intermediários; arcos de um mesmo vértice mantêm a ordem de entrada.
+    public static CsrGraph fromArcs(int n, int[] from, int[] to, int[] w, int m) {
+        int[] offsets = new int[n + 2];
+        for (int i = 0; i < m; i++) offsets[from[i] + 1]++;
+        for (int u = 0; u <= n; u++) offsets[u + 1] += offsets[u];
+        int[] next = new int[n + 1];
+        System.arraycopy(offsets, 0, next, 0, n + 1);
+        int[] targets = new int[m];
+        int[] weights = new int[m];
+        for (int i = 0; i < m; i++) {
+            int pos = next[from[i]]++;
+            targets[pos] = to[i];
+            weights[pos] = w[i];
+        }
+        return new CsrGraph(n, offsets, targets, weights);
+    }
+
+    // Vértice de origem de cada arco (o inverso de offsets)
+    public int[] sources() {
+        int[] from = new int[arcCount()];
+        for (int u = 0; u <= n; u++) {
+            for (int i = offsets[u], end = offsets[u + 1]; i < end; i++) from[i] = u;
+        }
+        return from;
+    }
+
+    // Grafo transposto (arcos invertidos), usado pelas buscas para trás
+    public CsrGraph reverse() {
+        return fromArcs(n, targets, sources(), weights, arcCount());
+    }
+
+    // Trata cada arco como aresta não dirigida e devolve a adjacência nos dois
+    // sentidos; a linha de u mantém a ordem em que suas arestas aparecem aqui
+    public CsrGraph symmetric() {
+        int m = arcCount();
+        int[] offs = new int[n + 2];
+        for (int u = 0; u <= n; u++) {
+            for (int i = offsets[u], end = offsets[u + 1]; i < end; i++) {
+                offs[u + 1]++;
+                offs[targets[i] + 1]++;
+            }
+        }
+        for (int u = 0; u <= n; u++) offs[u + 1] += offs[u];
+        int[] next = new int[n + 1];
+        System.arraycopy(offs, 0, next, 0, n + 1);
+        int[] tgt = new int[2 * m];
+        int[] wgt = new int[2 * m];
+        for (int u = 0; u <= n; u++) {
+            for (int i = offsets[u], end = offsets[u + 1]; i < end; i++) {
+                int v = targets[i];
+                int p = next[u]++;
+                tgt[p] = v;
+                wgt[p] = weights[i];
+                p = next[v]++;
+                tgt[p] = u;
+                wgt[p] = weights[i];
+            }
+        }
+        return new CsrGraph(n, offs, tgt, wgt);
+    }
+}
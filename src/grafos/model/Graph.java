@@ -1,34 +1,145 @@
 package grafos.model;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
+// O armazenamento principal são arrays CSR; as listas de Edge (adjDir, adjUndir,
+// edgesUndir) são visões de compatibilidade, montadas só na primeira chamada.
 public class Graph {
     public final int n;                 // número de vértices
     public int arcCount;                // número de arcos dirigidos (entrada)
-    public final List<Edge> edgesUndir; // arestas não dirigidas (para Kruskal)
-    public final List<List<Edge>> adjDir;   // adjacência dirigida (para Dijkstra)
-    public final List<List<Edge>> adjUndir; // adjacência não dirigida (para Prim)
+
+    // arestas acrescentadas por addUndirectedEdge (u < v), ainda não convertidas em CSR;
+    // nulo quando o grafo foi montado direto a partir de CSR (leitores de arquivo)
+    private int[] addU, addV, addW;
+    private int added;
+
+    private CsrGraph dirCsr;     // arcos dirigidos (para Dijkstra)
+    private CsrGraph undirEdges; // arestas não dirigidas, cada uma na linha do menor vértice (para Kruskal)
+    private CsrGraph undirCsr;   // as mesmas arestas nos dois sentidos (para Prim)
+    private CsrGraph reverseCsr;
+
+    private List<Edge> edgesUndir;
+    private List<List<Edge>> adjDir;
+    private List<List<Edge>> adjUndir;
 
     public Graph(int n) {
         this.n = n;
         this.arcCount = 0;
-        this.edgesUndir = new ArrayList<>();
-        this.adjDir = new ArrayList<>(n + 1);
-        this.adjUndir = new ArrayList<>(n + 1);
-        for (int i = 0; i <= n; i++) {
-            adjDir.add(new ArrayList<>());
-            adjUndir.add(new ArrayList<>());
+        this.addU = new int[16];
+        this.addV = new int[16];
+        this.addW = new int[16];
+    }
+
+    // Grafo já montado: arcos dirigidos e arestas não dirigidas deduplicadas
+    // (cada aresta uma única vez, na linha do menor vértice)
+    public Graph(int n, CsrGraph dir, CsrGraph undirEdges) {
+        if (dir.n != n || undirEdges.n != n) {
+            throw new IllegalArgumentException("CSR com número de vértices diferente do grafo");
         }
+        this.n = n;
+        this.arcCount = dir.arcCount();
+        this.dirCsr = dir;
+        this.undirEdges = undirEdges;
     }
 
     // Utilitário para testes: adiciona uma aresta não dirigida
-    public void addUndirectedEdge(int u, int v, int w) {
-        edgesUndir.add(new Edge(Math.min(u, v), Math.max(u, v), w));
-        adjUndir.get(u).add(new Edge(u, v, w));
-        adjUndir.get(v).add(new Edge(v, u, w));
+    public synchronized void addUndirectedEdge(int u, int v, int w) {
+        if (addU == null) throw new IllegalStateException("Grafo montado a partir de CSR não aceita novas arestas");
+        if (added == addU.length) {
+            int cap = added * 2;
+            addU = Arrays.copyOf(addU, cap);
+            addV = Arrays.copyOf(addV, cap);
+            addW = Arrays.copyOf(addW, cap);
+        }
+        addU[added] = Math.min(u, v);
+        addV[added] = Math.max(u, v);
+        addW[added] = w;
+        added++;
         // também reflete nas estruturas dirigidas bidirecionalmente
-        adjDir.get(u).add(new Edge(u, v, w));
-        adjDir.get(v).add(new Edge(v, u, w));
+        arcCount += 2;
+        dirCsr = null;
+        undirEdges = null;
+        undirCsr = null;
+        reverseCsr = null;
+        edgesUndir = null;
+        adjDir = null;
+        adjUndir = null;
+    }
+
+    // Adjacência dirigida em CSR
+    public synchronized CsrGraph dirCsr() {
+        if (dirCsr == null) {
+            int[] from = new int[2 * added], to = new int[2 * added], w = new int[2 * added];
+            for (int i = 0; i < added; i++) {
+                from[2 * i] = addU[i];     to[2 * i] = addV[i];     w[2 * i] = addW[i];
+                from[2 * i + 1] = addV[i]; to[2 * i + 1] = addU[i]; w[2 * i + 1] = addW[i];
+            }
+            dirCsr = CsrGraph.fromArcs(n, from, to, w, 2 * added);
+        }
+        return dirCsr;
+    }
+
+    // Arestas não dirigidas em CSR, cada uma uma única vez (na linha do menor vértice)
+    public synchronized CsrGraph undirEdges() {
+        if (undirEdges == null) undirEdges = CsrGraph.fromArcs(n, addU, addV, addW, added);
+        return undirEdges;
+    }
+
+    public int undirEdgeCount() {
+        return undirEdges().arcCount();
+    }
+
+    // Adjacência não dirigida em CSR (montada na primeira chamada)
+    public synchronized CsrGraph undirCsr() {
+        if (undirCsr == null) undirCsr = undirEdges().symmetric();
+        return undirCsr;
+    }
+
+    // Adjacência dirigida transposta em CSR (arcos de entrada), montada uma única vez
+    public synchronized CsrGraph reverseCsr() {
+        if (reverseCsr == null) reverseCsr = dirCsr().reverse();
+        return reverseCsr;
+    }
+
+    // Arestas não dirigidas como objetos Edge (u < v), na ordem de undirEdges()
+    public synchronized List<Edge> edgesUndir() {
+        if (edgesUndir == null) {
+            CsrGraph half = undirEdges();
+            List<Edge> list = new ArrayList<>(half.arcCount());
+            for (int u = 0; u <= n; u++) {
+                for (int i = half.offsets[u], end = half.offsets[u + 1]; i < end; i++) {
+                    list.add(new Edge(u, half.targets[i], half.weights[i]));
+                }
+            }
+            edgesUndir = Collections.unmodifiableList(list);
+        }
+        return edgesUndir;
+    }
+
+    // Adjacência dirigida como listas de Edge
+    public synchronized List<List<Edge>> adjDir() {
+        if (adjDir == null) adjDir = toLists(dirCsr());
+        return adjDir;
+    }
+
+    // Adjacência não dirigida como listas de Edge
+    public synchronized List<List<Edge>> adjUndir() {
+        if (adjUndir == null) adjUndir = toLists(undirCsr());
+        return adjUndir;
+    }
+
+    private static List<List<Edge>> toLists(CsrGraph csr) {
+        List<List<Edge>> adj = new ArrayList<>(csr.n + 1);
+        for (int u = 0; u <= csr.n; u++) {
+            List<Edge> out = new ArrayList<>(csr.degree(u));
+            for (int i = csr.offsets[u], end = csr.offsets[u + 1]; i < end; i++) {
+                out.add(new Edge(u, csr.targets[i], csr.weights[i]));
+            }
+            adj.add(Collections.unmodifiableList(out));
+        }
+        return Collections.unmodifiableList(adj);
     }
 }